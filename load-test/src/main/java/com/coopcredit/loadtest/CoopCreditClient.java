@@ -0,0 +1,101 @@
+package com.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Thin JSON client for the CoopCredit API. Every call is timed and recorded in
+ * the report under its endpoint name; a non-2xx answer or an I/O failure is
+ * recorded as an error and thrown as {@link StepFailedException}.
+ */
+final class CoopCreditClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final LoadReport report;
+
+    CoopCreditClient(String baseUrl, ObjectMapper mapper, LoadReport report) {
+        this.baseUrl = baseUrl;
+        this.mapper = mapper;
+        this.report = report;
+        // HTTP/1.1 keep-alive, as a browser or API gateway in front of the app would use
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        HttpRequest.Builder request = request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(json(body)));
+        return send(endpoint, request.build());
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            String error = e.getClass().getSimpleName();
+            report.record(endpoint, System.nanoTime() - start, error);
+            throw new StepFailedException(endpoint + ": " + error, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailedException(endpoint + ": interrupted", e);
+        }
+        long latency = System.nanoTime() - start;
+
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            report.record(endpoint, latency, "HTTP " + status);
+            throw new StepFailedException(endpoint + ": HTTP " + status + " " + new String(response.body()), null);
+        }
+        report.record(endpoint, latency, null);
+        try {
+            return response.body().length == 0 ? mapper.nullNode() : mapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new StepFailedException(endpoint + ": unreadable body", e);
+        }
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return mapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    static final class StepFailedException extends RuntimeException {
+        StepFailedException(String message, Throwable cause) {
+            super(message, cause, false, false);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One iteration of the credit flow, as the two real actors would drive it:
+ * an analyst registers the affiliate, the affiliate signs up, logs in and
+ * applies, and the analyst evaluates the application. Each iteration uses a
+ * fresh affiliate so the flow never collides with earlier data.
+ */
+final class CreditFlow implements Flow {
+
+    static final String CREATE_AFFILIATE = "create-affiliate";
+    static final String REGISTER = "register";
+    static final String LOGIN = "login";
+    static final String CREATE_APPLICATION = "create-application";
+    static final String EVALUATE = "evaluate";
+    static final String GET_APPLICATION = "get-application";
+
+    private static final String PASSWORD = "LoadTest#2024";
+
+    private final CoopCreditClient client;
+    // Documents are 12 digits: a per-run prefix and a sequence, unique across runs against one database
+    private final long runPrefix = ThreadLocalRandom.current().nextLong(100, 1000);
+    private final AtomicLong sequence = new AtomicLong();
+    private String analystToken;
+
+    CreditFlow(CoopCreditClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Registers and logs in the analyst shared by all iterations. Not measured.
+     */
+    @Override
+    public void setUp() {
+        String analyst = "loadtest-analyst-" + runPrefix + "-" + System.currentTimeMillis();
+        client.post(REGISTER, "/auth/register", null,
+                Map.of("username", analyst, "password", PASSWORD, "role", "ROLE_ANALISTA"));
+        analystToken = login(analyst);
+    }
+
+    @Override
+    public void run() {
+        String document = String.format("%03d%09d", runPrefix, sequence.incrementAndGet());
+
+        client.post(CREATE_AFFILIATE, "/api/afiliados", analystToken, Map.of(
+                "document", document,
+                "name", "Afiliado Carga " + document,
+                "salary", 5_000_000,
+                "affiliationDate", "2020-01-01"));
+
+        client.post(REGISTER, "/auth/register", null, Map.of(
+                "username", "loadtest-" + document,
+                "password", PASSWORD,
+                "role", "ROLE_AFILIADO",
+                "affiliateDocument", document));
+        String affiliateToken = login("loadtest-" + document);
+
+        JsonNode application = client.post(CREATE_APPLICATION, "/api/solicitudes", affiliateToken,
+                Map.of("amount", 1_000_000, "term", 12));
+        long id = application.path("id").asLong();
+
+        client.post(EVALUATE, "/api/solicitudes/" + id + "/evaluar", analystToken, null);
+        client.get(GET_APPLICATION, "/api/solicitudes/" + id, affiliateToken);
+    }
+
+    private String login(String username) {
+        return client.post(LOGIN, "/auth/login", null, Map.of("username", username, "password", PASSWORD))
+                .path("token").asText();
+    }
+}
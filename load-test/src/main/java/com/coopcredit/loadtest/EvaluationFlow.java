@@ -0,0 +1,64 @@
+package com.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The request path that blocks on the risk central: the affiliate applies and the
+ * analyst evaluates the application at once. One affiliate and one analyst,
+ * registered and logged in at setup, are shared by every iteration, so a run
+ * measures application and evaluation only, not account creation or password
+ * hashing. Used to compare thread models at thousands of concurrent users.
+ */
+final class EvaluationFlow implements Flow {
+
+    private static final String PASSWORD = "LoadTest#2024";
+
+    private final CoopCreditClient client;
+    private String analystToken;
+    private String affiliateToken;
+
+    EvaluationFlow(CoopCreditClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public void setUp() {
+        long run = System.currentTimeMillis();
+        String analyst = "loadtest-analyst-" + run;
+        client.post(CreditFlow.REGISTER, "/auth/register", null,
+                Map.of("username", analyst, "password", PASSWORD, "role", "ROLE_ANALISTA"));
+        analystToken = login(analyst);
+
+        String document = String.format("%03d%09d", ThreadLocalRandom.current().nextLong(100, 1000), run % 1_000_000_000);
+        client.post(CreditFlow.CREATE_AFFILIATE, "/api/afiliados", analystToken, Map.of(
+                "document", document,
+                "name", "Afiliado Carga " + document,
+                "salary", 50_000_000,
+                "affiliationDate", "2020-01-01"));
+        client.post(CreditFlow.REGISTER, "/auth/register", null, Map.of(
+                "username", "loadtest-" + document,
+                "password", PASSWORD,
+                "role", "ROLE_AFILIADO",
+                "affiliateDocument", document));
+        affiliateToken = login("loadtest-" + document);
+    }
+
+    @Override
+    public void run() {
+        // A different amount each time, so the risk cache never answers in place of the risk central
+        long amount = ThreadLocalRandom.current().nextLong(1_000_000, 5_000_000);
+        JsonNode application = client.post(CreditFlow.CREATE_APPLICATION, "/api/solicitudes", affiliateToken,
+                Map.of("amount", amount, "term", 12));
+        long id = application.path("id").asLong();
+
+        client.post(CreditFlow.EVALUATE, "/api/solicitudes/" + id + "/evaluar", analystToken, null);
+    }
+
+    private String login(String username) {
+        return client.post(CreditFlow.LOGIN, "/auth/login", null, Map.of("username", username, "password", PASSWORD))
+                .path("token").asText();
+    }
+}
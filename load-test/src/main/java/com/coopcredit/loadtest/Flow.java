@@ -0,0 +1,18 @@
+package com.coopcredit.loadtest;
+
+/**
+ * A scenario the load generator repeats: {@link #setUp} once before the run,
+ * then {@link #run} once per iteration, concurrently from many virtual users.
+ */
+interface Flow {
+
+    /**
+     * Creates what every iteration shares. Not measured.
+     */
+    void setUp();
+
+    /**
+     * One iteration; throws {@link CoopCreditClient.StepFailedException} on the first failed step.
+     */
+    void run();
+}
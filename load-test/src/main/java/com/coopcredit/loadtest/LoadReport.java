@@ -0,0 +1,132 @@
+package com.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts, recorded only inside the
+ * measurement window, and their JSON report.
+ */
+final class LoadReport {
+
+    static final String FLOW = "flow";
+
+    private final Map<String, Stats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder droppedFlows = new LongAdder();
+    private volatile boolean recording;
+    private volatile long recordingStartedNanos;
+    private volatile long recordingStoppedNanos;
+
+    void startRecording() {
+        recordingStartedNanos = System.nanoTime();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+        recordingStoppedNanos = System.nanoTime();
+    }
+
+    /**
+     * @param error {@code null} on success, otherwise a short label such as "HTTP 503"
+     */
+    void record(String endpoint, long latencyNanos, String error) {
+        if (!recording) {
+            return;
+        }
+        Stats stats = endpoints.computeIfAbsent(endpoint, name -> new Stats());
+        stats.latencyMicros.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (error != null) {
+            stats.errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+        }
+    }
+
+    void recordDroppedFlow() {
+        if (recording) {
+            droppedFlows.increment();
+        }
+    }
+
+    ObjectNode toJson(LoadTestOptions options, ObjectMapper mapper) {
+        double seconds = (recordingStoppedNanos - recordingStartedNanos) / 1e9;
+        ObjectNode root = mapper.createObjectNode();
+        root.put("label", options.label());
+        root.put("finishedAt", Instant.now().toString());
+        root.put("environment", options.environment());
+        root.put("scenario", options.scenario());
+        root.put("model", options.openModel() ? "open" : "closed");
+        root.put("concurrency", options.concurrency());
+        root.put("rate", options.rate());
+        root.put("warmupSeconds", options.warmup().toSeconds());
+        root.put("measuredSeconds", round(seconds));
+        root.put("droppedFlows", droppedFlows.sum());
+
+        ObjectNode byEndpoint = root.putObject("endpoints");
+        new TreeMap<>(endpoints).forEach((name, stats) -> {
+            Histogram latency = stats.latencyMicros.copy();
+            long errors = stats.errors.values().stream().mapToLong(LongAdder::sum).sum();
+            ObjectNode node = byEndpoint.putObject(name);
+            node.put("requests", latency.getTotalCount());
+            node.put("errors", errors);
+            node.put("throughputPerSecond", round((latency.getTotalCount() - errors) / seconds));
+            ObjectNode ms = node.putObject("latencyMs");
+            ms.put("p50", millis(latency.getValueAtPercentile(50)));
+            ms.put("p95", millis(latency.getValueAtPercentile(95)));
+            ms.put("p99", millis(latency.getValueAtPercentile(99)));
+            ms.put("p999", millis(latency.getValueAtPercentile(99.9)));
+            ms.put("max", millis(latency.getMaxValue()));
+            ms.put("mean", round(latency.getMean() / 1_000));
+            ObjectNode errorTypes = node.putObject("errorTypes");
+            new TreeMap<>(stats.errors).forEach((type, count) -> errorTypes.put(type, count.sum()));
+        });
+        return root;
+    }
+
+    void write(ObjectNode json, Path path, ObjectMapper mapper) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), json);
+    }
+
+    String summary(ObjectNode json) {
+        StringBuilder out = new StringBuilder(String.format("%-20s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms"));
+        json.get("endpoints").fields().forEachRemaining(entry -> {
+            var node = entry.getValue();
+            var ms = node.get("latencyMs");
+            out.append(String.format("%-20s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(),
+                    node.get("requests").asLong(), node.get("errors").asLong(),
+                    node.get("throughputPerSecond").asDouble(), ms.get("p50").asDouble(), ms.get("p95").asDouble(),
+                    ms.get("p99").asDouble(), ms.get("p999").asDouble()));
+        });
+        out.append("dropped flows (open model, over concurrency): ").append(json.get("droppedFlows").asLong());
+        return out.toString();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class Stats {
+        // Auto-resizing, 3 significant digits
+        private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(3);
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    }
+}
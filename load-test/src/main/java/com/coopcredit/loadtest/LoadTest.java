@@ -0,0 +1,137 @@
+package com.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the end-to-end credit flow (create affiliate, register, login, apply,
+ * evaluate, read back) against CoopCredit and writes per-endpoint throughput,
+ * latency percentiles and error counts to a JSON report.
+ *
+ * <p>Two load models:
+ * <ul>
+ * <li>closed ({@code --rate=0}): {@code concurrency} virtual users each run the
+ * flow back to back, so offered load drops when the service slows down;</li>
+ * <li>open ({@code --rate>0}): flows start on a fixed schedule regardless of how
+ * earlier ones are doing, with at most {@code concurrency} in flight. Flow
+ * latency is measured from the scheduled start, so queueing delay is included
+ * rather than hidden (coordinated omission); flows that would exceed the cap
+ * are dropped and counted.</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        LoadReport report = new LoadReport();
+        try (TestEnvironment environment = TestEnvironment.start(options)) {
+            if (options.riskSimulation() != null) {
+                environment.configureRiskSimulation(options.riskSimulation());
+            }
+            CoopCreditClient client = new CoopCreditClient(environment.baseUrl(), mapper, report);
+            Flow flow = options.scenario().equals("evaluation") ? new EvaluationFlow(client) : new CreditFlow(client);
+            flow.setUp();
+
+            System.out.printf("Running %s %s model against %s: concurrency=%d rate=%s/s warmup=%ds duration=%ds%n",
+                    options.scenario(), options.openModel() ? "open" : "closed", environment.baseUrl(),
+                    options.concurrency(),
+                    options.rate(), options.warmup().toSeconds(), options.duration().toSeconds());
+            if (options.openModel()) {
+                runOpen(options, flow, report);
+            } else {
+                runClosed(options, flow, report);
+            }
+        }
+
+        ObjectNode json = report.toJson(options, mapper);
+        report.write(json, options.report(), mapper);
+        System.out.println(report.summary(json));
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+    }
+
+    private static void runClosed(LoadTestOptions options, Flow flow, LoadReport report)
+            throws InterruptedException {
+        long end = System.nanoTime() + options.warmup().toNanos() + options.duration().toNanos();
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < options.concurrency(); i++) {
+            users.add(Thread.ofVirtual().name("user-" + i).start(() -> {
+                while (System.nanoTime() < end) {
+                    runFlow(flow, report, System.nanoTime());
+                }
+            }));
+        }
+        measure(options, report);
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    private static void runOpen(LoadTestOptions options, Flow flow, LoadReport report)
+            throws InterruptedException {
+        long intervalNanos = (long) (1e9 / options.rate());
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (ExecutorService flows = Executors.newVirtualThreadPerTaskExecutor()) {
+            long origin = System.nanoTime();
+            long[] tick = {0};
+            scheduler.scheduleAtFixedRate(() -> {
+                long scheduledStart = origin + tick[0]++ * intervalNanos;
+                if (!inFlight.tryAcquire()) {
+                    report.recordDroppedFlow();
+                    return;
+                }
+                flows.execute(() -> {
+                    try {
+                        runFlow(flow, report, scheduledStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+
+            measure(options, report);
+            scheduler.shutdownNow();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // Warmup, then the measured window; flows still running when it closes are not recorded
+    private static void measure(LoadTestOptions options, LoadReport report) throws InterruptedException {
+        Thread.sleep(options.warmup().toMillis());
+        report.startRecording();
+        Thread.sleep(options.duration().toMillis());
+        report.stopRecording();
+    }
+
+    private static void runFlow(Flow flow, LoadReport report, long startNanos) {
+        String error = null;
+        try {
+            flow.run();
+        } catch (CoopCreditClient.StepFailedException e) {
+            error = e.getMessage().substring(0, e.getMessage().indexOf(':'));
+        } catch (RuntimeException e) {
+            error = e.getClass().getSimpleName();
+        }
+        report.record(LoadReport.FLOW, System.nanoTime() - startNanos, error);
+    }
+}
@@ -0,0 +1,117 @@
+package com.coopcredit.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, given as {@code --name=value}.
+ */
+record LoadTestOptions(
+        String environment,
+        String scenario,
+        String baseUrl,
+        String riskUrl,
+        Path appJar,
+        Path riskMockJar,
+        List<String> appArgs,
+        List<String> riskMockArgs,
+        int concurrency,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        String riskSimulation,
+        String label,
+        Path report) {
+
+    private static final Set<String> NAMES = Set.of("environment", "scenario", "base-url", "risk-url", "app-jar",
+            "risk-mock-jar", "app-args", "risk-mock-args", "concurrency", "rate", "duration", "warmup",
+            "risk-simulation", "label", "report");
+
+    static final String USAGE = """
+            Usage: LoadTest [--name=value ...]
+              --environment=external|containers  external: use running services (default)
+                                                 containers: start Postgres (Testcontainers), the risk mock and the app
+              --scenario=flow|evaluation         flow: full credit flow with a new affiliate each time (default)
+                                                 evaluation: apply and evaluate only, one shared affiliate
+              --base-url=http://localhost:8082   CoopCredit URL (external)
+              --risk-url=http://localhost:8083   risk-central-mock URL (external)
+              --app-jar=target/coopcredit-service-0.0.1-SNAPSHOT.jar           (containers)
+              --risk-mock-jar=risk-central-mock/target/risk-central-mock-1.0.0.jar (containers)
+              '--app-args=--spring.threads.virtual.enabled=true'  extra arguments for the app jar (containers)
+              --risk-mock-args=...               extra arguments for the risk mock jar (containers)
+              --concurrency=20                   virtual users (closed model) or max flows in flight (open model)
+              --rate=0                           flows started per second; 0 = closed model, users loop back to back
+              --duration=60s --warmup=10s        measured time, and unmeasured time before it
+              '--risk-simulation={"latency":"LOG_NORMAL","medianMs":40,"sigma":1}'  applied to the risk mock first
+              --label=dev                        free text copied into the report, e.g. a release
+              --report=load-test/target/load-report.json
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0 || !NAMES.contains(arg.substring(2, equals))) {
+                throw new IllegalArgumentException("Unknown option: " + arg + "\n" + USAGE);
+            }
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        String environment = values.getOrDefault("environment", "external");
+        if (!environment.equals("external") && !environment.equals("containers")) {
+            throw new IllegalArgumentException("environment must be external or containers\n" + USAGE);
+        }
+        String scenario = values.getOrDefault("scenario", "flow");
+        if (!scenario.equals("flow") && !scenario.equals("evaluation")) {
+            throw new IllegalArgumentException("scenario must be flow or evaluation\n" + USAGE);
+        }
+        int concurrency = Integer.parseInt(values.getOrDefault("concurrency", "20"));
+        double rate = Double.parseDouble(values.getOrDefault("rate", "0"));
+        if (concurrency < 1 || rate < 0) {
+            throw new IllegalArgumentException("concurrency must be >= 1 and rate >= 0\n" + USAGE);
+        }
+        return new LoadTestOptions(
+                environment,
+                scenario,
+                values.getOrDefault("base-url", "http://localhost:8082"),
+                values.getOrDefault("risk-url", "http://localhost:8083"),
+                Path.of(values.getOrDefault("app-jar", "target/coopcredit-service-0.0.1-SNAPSHOT.jar")),
+                Path.of(values.getOrDefault("risk-mock-jar", "risk-central-mock/target/risk-central-mock-1.0.0.jar")),
+                arguments(values.get("app-args")),
+                arguments(values.get("risk-mock-args")),
+                concurrency,
+                rate,
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                values.get("risk-simulation"),
+                values.getOrDefault("label", "unlabeled"),
+                Path.of(values.getOrDefault("report", "load-test/target/load-report.json")));
+    }
+
+    boolean openModel() {
+        return rate > 0;
+    }
+
+    // Space-separated, e.g. "--spring.threads.virtual.enabled=true --server.tomcat.max-connections=20000"
+    private static List<String> arguments(String value) {
+        return value == null || value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+
+    // 90, 90s, 5m or an ISO-8601 duration
+    private static Duration duration(String value) {
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.startsWith("P")) {
+            return Duration.parse(value);
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,157 @@
+package com.coopcredit.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The services under test. {@code external} points at services already running;
+ * {@code containers} starts Postgres in Testcontainers plus the risk mock and
+ * the application from their packaged jars, and tears them down on close.
+ */
+final class TestEnvironment implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String baseUrl;
+    private final String riskUrl;
+    private final PostgreSQLContainer<?> postgres;
+    private final List<Process> processes;
+
+    private TestEnvironment(String baseUrl, String riskUrl, PostgreSQLContainer<?> postgres,
+            List<Process> processes) {
+        this.baseUrl = baseUrl;
+        this.riskUrl = riskUrl;
+        this.postgres = postgres;
+        this.processes = processes;
+    }
+
+    static TestEnvironment start(LoadTestOptions options) throws IOException, InterruptedException {
+        if (options.environment().equals("external")) {
+            return new TestEnvironment(options.baseUrl(), options.riskUrl(), null, List.of());
+        }
+        requireJar(options.appJar(), "./mvnw -DskipTests package");
+        requireJar(options.riskMockJar(), "./mvnw -f risk-central-mock/pom.xml -DskipTests package");
+
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withDatabaseName("coopcredit");
+        postgres.start();
+        List<Process> processes = new ArrayList<>();
+        TestEnvironment environment = null;
+        try {
+            int riskPort = freePort();
+            String riskUrl = "http://localhost:" + riskPort;
+            List<String> riskArgs = new ArrayList<>(List.of("--server.port=" + riskPort));
+            riskArgs.addAll(options.riskMockArgs());
+            processes.add(launch("risk-central-mock", options.riskMockJar(), riskArgs));
+            awaitUp(riskUrl + "/admin/simulation");
+
+            int appPort = freePort();
+            String baseUrl = "http://localhost:" + appPort;
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=" + appPort,
+                    "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                    "--spring.datasource.username=" + postgres.getUsername(),
+                    "--spring.datasource.password=" + postgres.getPassword(),
+                    "--spring.jpa.show-sql=false",
+                    "--risk.service.url=" + riskUrl + "/risk-evaluation"));
+            // Given last, so they override the defaults above
+            appArgs.addAll(options.appArgs());
+            processes.add(launch("coopcredit", options.appJar(), appArgs));
+            awaitUp(baseUrl + "/actuator/health");
+
+            environment = new TestEnvironment(baseUrl, riskUrl, postgres, processes);
+            return environment;
+        } finally {
+            if (environment == null) {
+                processes.forEach(Process::destroy);
+                postgres.stop();
+            }
+        }
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Replaces the risk mock's latency, error and concurrency settings with the given JSON.
+     */
+    void configureRiskSimulation(String settingsJson) throws IOException, InterruptedException {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(riskUrl + "/admin/simulation"))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(settingsJson))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalArgumentException("Risk mock rejected the simulation settings: " + response.body());
+        }
+        System.out.println("Risk simulation: " + response.body());
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    private static void requireJar(Path jar, String buildCommand) {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException(jar + " not found; build it first with " + buildCommand);
+        }
+    }
+
+    // Output goes to load-test/target/logs/<name>.log so it does not mix with the report
+    private static Process launch(String name, Path jar, List<String> args) throws IOException {
+        Path log = Path.of("load-test", "target", "logs", name + ".log");
+        Files.createDirectories(log.getParent());
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private static void awaitUp(String url) throws InterruptedException {
+        HttpClient http = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = http.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(url + " did not come up within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -2,26 +2,62 @@ package com.riskmock.controller;
 
 import com.riskmock.dto.RiskEvaluationRequest;
 import com.riskmock.dto.RiskEvaluationResponse;
+import com.riskmock.simulation.SimulationService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/risk-evaluation")
+@RequiredArgsConstructor
 public class RiskEvaluationController {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final SimulationService simulation;
+
     @PostMapping
     public ResponseEntity<RiskEvaluationResponse> evaluate(@RequestBody RiskEvaluationRequest request) {
         // Validaciones
-        if (request.getDocumento() == null || request.getDocumento().isBlank()) {
+        if (!isValid(request)) {
             return ResponseEntity.badRequest().build();
         }
-        if (request.getMonto() == null) {
-            return ResponseEntity.badRequest().build();
-        }
-        if (request.getPlazo() == null) {
+
+        return simulation.run(() -> ResponseEntity.ok(score(request)));
+    }
+
+    /**
+     * Evalúa varias solicitudes en una sola llamada. La respuesta conserva el orden
+     * de la petición; una solicitud inválida devuelve score nulo sin afectar al resto.
+     * La latencia y los errores simulados se aplican una vez por lote.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<RiskEvaluationResponse>> evaluateBatch(
+            @RequestBody List<RiskEvaluationRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
             return ResponseEntity.badRequest().build();
         }
 
+        return simulation.run(() -> ResponseEntity.ok(requests.stream()
+                .map(request -> isValid(request)
+                        ? score(request)
+                        : RiskEvaluationResponse.builder()
+                                .documento(request.getDocumento())
+                                .detalle("Solicitud inválida: documento, monto y plazo son obligatorios")
+                                .build())
+                .toList()));
+    }
+
+    private boolean isValid(RiskEvaluationRequest request) {
+        return request != null
+                && request.getDocumento() != null && !request.getDocumento().isBlank()
+                && request.getMonto() != null
+                && request.getPlazo() != null;
+    }
+
+    private RiskEvaluationResponse score(RiskEvaluationRequest request) {
         double monto = request.getMonto().doubleValue();
         int plazo = request.getPlazo();
         String documento = request.getDocumento();
@@ -58,13 +94,11 @@ public class RiskEvaluationController {
                     finalScore);
         }
 
-        RiskEvaluationResponse response = RiskEvaluationResponse.builder()
+        return RiskEvaluationResponse.builder()
                 .documento(documento)
                 .score(finalScore)
                 .nivelRiesgo(nivelRiesgo)
                 .detalle(detalle)
                 .build();
-
-        return ResponseEntity.ok(response);
     }
 }
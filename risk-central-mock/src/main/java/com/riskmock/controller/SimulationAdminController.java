@@ -0,0 +1,42 @@
+package com.riskmock.controller;
+
+import com.riskmock.simulation.SimulationService;
+import com.riskmock.simulation.SimulationSettings;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Cambia en caliente el comportamiento simulado (latencia, errores, concurrencia).
+ */
+@RestController
+@RequestMapping("/admin/simulation")
+@RequiredArgsConstructor
+public class SimulationAdminController {
+
+    private final SimulationService simulation;
+
+    @GetMapping
+    public SimulationSettings get() {
+        return simulation.current();
+    }
+
+    // Reemplaza la configuración completa; los campos omitidos toman su valor por defecto
+    @PutMapping
+    public SimulationSettings update(@RequestBody SimulationSettings settings) {
+        return simulation.update(settings);
+    }
+
+    // Vuelve a los valores de application.properties
+    @DeleteMapping
+    public SimulationSettings reset() {
+        return simulation.reset();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> invalidSettings(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
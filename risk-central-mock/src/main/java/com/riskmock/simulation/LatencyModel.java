@@ -0,0 +1,15 @@
+package com.riskmock.simulation;
+
+/**
+ * Distribución de la latencia simulada por solicitud.
+ */
+public enum LatencyModel {
+    // Sin espera
+    NONE,
+    // Siempre fixedMs
+    FIXED,
+    // Uniforme entre minMs y maxMs
+    UNIFORM,
+    // Log-normal con mediana medianMs y dispersión sigma; sigma alto = cola larga. maxMs > 0 la acota
+    LOG_NORMAL
+}
@@ -0,0 +1,16 @@
+package com.riskmock.simulation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SimulationConfig {
+
+    // Valores de arranque (simulation.*); reset vuelve a ellos
+    @Bean
+    @ConfigurationProperties(prefix = "simulation")
+    public SimulationSettings simulationSettings() {
+        return new SimulationSettings();
+    }
+}
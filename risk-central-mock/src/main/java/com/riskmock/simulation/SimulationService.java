@@ -0,0 +1,136 @@
+package com.riskmock.simulation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Aplica la latencia, los errores y el límite de concurrencia configurados
+ * alrededor de cada llamada a la central simulada.
+ */
+@Slf4j
+@Service
+public class SimulationService {
+
+    private final SimulationSettings defaults;
+    private final AtomicReference<State> state = new AtomicReference<>();
+
+    public SimulationService(SimulationSettings simulationSettings) {
+        this.defaults = simulationSettings.toBuilder().build();
+        update(simulationSettings);
+    }
+
+    public SimulationSettings current() {
+        return state.get().settings().toBuilder().build();
+    }
+
+    public SimulationSettings update(SimulationSettings settings) {
+        validate(settings);
+        SimulationSettings copy = settings.toBuilder().build();
+        // Cada solicitud libera el semáforo que adquirió, así que cambiar el límite no afecta a las que están en curso
+        Semaphore limiter = copy.getMaxConcurrency() > 0 ? new Semaphore(copy.getMaxConcurrency(), true) : null;
+        state.set(new State(copy, limiter));
+        log.info("Simulation settings: {}", copy);
+        return current();
+    }
+
+    public SimulationSettings reset() {
+        return update(defaults);
+    }
+
+    /**
+     * Ejecuta la respuesta real tras aplicar el comportamiento simulado: espera un
+     * turno si hay límite de concurrencia, duerme la latencia sorteada y, según
+     * errorRate, responde con errorStatus en lugar de la respuesta real.
+     */
+    public <T> ResponseEntity<T> run(Supplier<ResponseEntity<T>> handler) {
+        State current = state.get();
+        SimulationSettings settings = current.settings();
+        Semaphore limiter = current.limiter();
+
+        if (limiter != null && !acquire(limiter, settings.getQueueTimeoutMs())) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        try {
+            sleep(latencyMs(settings));
+            if (settings.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+                return ResponseEntity.status(settings.getErrorStatus()).build();
+            }
+            return handler.get();
+        } finally {
+            if (limiter != null) {
+                limiter.release();
+            }
+        }
+    }
+
+    long latencyMs(SimulationSettings settings) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (settings.getLatency()) {
+            case NONE -> 0;
+            case FIXED -> settings.getFixedMs();
+            case UNIFORM -> settings.getMaxMs() > settings.getMinMs()
+                    ? random.nextLong(settings.getMinMs(), settings.getMaxMs() + 1)
+                    : settings.getMinMs();
+            case LOG_NORMAL -> {
+                long sample = Math.round(settings.getMedianMs() * Math.exp(settings.getSigma() * random.nextGaussian()));
+                yield settings.getMaxMs() > 0 ? Math.min(sample, settings.getMaxMs()) : sample;
+            }
+        };
+    }
+
+    private static void validate(SimulationSettings settings) {
+        if (settings.getLatency() == null) {
+            throw new IllegalArgumentException("latency is required: NONE, FIXED, UNIFORM or LOG_NORMAL");
+        }
+        if (settings.getFixedMs() < 0 || settings.getMinMs() < 0 || settings.getMaxMs() < 0
+                || settings.getMedianMs() < 0 || settings.getSigma() < 0 || settings.getQueueTimeoutMs() < 0) {
+            throw new IllegalArgumentException("Latencies, sigma and queueTimeoutMs must not be negative");
+        }
+        if (settings.getLatency() == LatencyModel.UNIFORM && settings.getMaxMs() < settings.getMinMs()) {
+            throw new IllegalArgumentException("maxMs must be >= minMs for UNIFORM latency");
+        }
+        if (settings.getErrorRate() < 0 || settings.getErrorRate() > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        if (settings.getErrorStatus() < 400 || settings.getErrorStatus() > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status");
+        }
+        if (settings.getMaxConcurrency() < 0) {
+            throw new IllegalArgumentException("maxConcurrency must not be negative (0 = unlimited)");
+        }
+    }
+
+    private static boolean acquire(Semaphore limiter, long timeoutMs) {
+        try {
+            return limiter.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record State(SimulationSettings settings, Semaphore limiter) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.riskmock.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Comportamiento simulado de la central de riesgo. Los valores iniciales vienen
+ * de simulation.* en application.properties y se cambian en caliente con
+ * PUT /admin/simulation.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationSettings {
+
+    @Builder.Default
+    private LatencyModel latency = LatencyModel.NONE;
+    @Builder.Default
+    private long fixedMs = 0;
+    @Builder.Default
+    private long minMs = 0;
+    @Builder.Default
+    private long maxMs = 0;
+    @Builder.Default
+    private long medianMs = 0;
+    @Builder.Default
+    private double sigma = 0;
+
+    // Fracción (0..1) de solicitudes que responden con errorStatus tras la latencia
+    @Builder.Default
+    private double errorRate = 0;
+    @Builder.Default
+    private int errorStatus = 503;
+
+    // Solicitudes atendidas a la vez (0 = sin límite); el resto espera hasta queueTimeoutMs y luego recibe 503
+    @Builder.Default
+    private int maxConcurrency = 0;
+    @Builder.Default
+    private long queueTimeoutMs = 0;
+}
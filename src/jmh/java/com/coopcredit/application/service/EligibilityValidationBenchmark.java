@@ -0,0 +1,70 @@
+package com.coopcredit.application.service;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.infrastructure.adapter.out.metrics.MicrometerCreditMetricsAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation math of registerApplication: seniority, BigDecimal installment vs
+ * 50% of salary, and the 12x salary cap. The rejected case includes the cost of
+ * building the exception message and counting the rejection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EligibilityValidationBenchmark {
+
+    private CreditApplicationService service;
+    private Affiliate affiliate;
+    private CreditApplication accepted;
+    private CreditApplication overCapacity;
+
+    @Setup
+    public void setUp() {
+        service = new CreditApplicationService(null, null, null,
+                new MicrometerCreditMetricsAdapter(new SimpleMeterRegistry()), Runnable::run);
+        affiliate = Affiliate.builder()
+                .id(1L)
+                .document("12345678")
+                .salary(new BigDecimal("5000000"))
+                .affiliationDate(LocalDate.now().minusYears(3))
+                .status(Affiliate.AffiliateStatus.ACTIVE)
+                .build();
+        accepted = CreditApplication.builder()
+                .requestedAmount(new BigDecimal("20000000"))
+                .termMonths(36)
+                .build();
+        overCapacity = CreditApplication.builder()
+                .requestedAmount(new BigDecimal("30000000"))
+                .termMonths(6)
+                .build();
+    }
+
+    @Benchmark
+    public CreditApplication accepted() {
+        service.validateEligibility(affiliate, accepted);
+        return accepted;
+    }
+
+    @Benchmark
+    public Object rejectedByCapacity() {
+        try {
+            service.validateEligibility(affiliate, overCapacity);
+            return overCapacity;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
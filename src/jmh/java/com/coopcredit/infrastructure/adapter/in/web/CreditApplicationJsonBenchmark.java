@@ -0,0 +1,79 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of CreditApplication lists, as written by the listing
+ * endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CreditApplicationJsonBenchmark {
+
+    @Param({ "1", "50", "500" })
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<CreditApplication> applications;
+
+    @Setup
+    public void setUp() {
+        // Same modules and date format as the mapper Spring Boot configures
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Affiliate affiliate = Affiliate.builder()
+                .id(1L)
+                .document("12345678")
+                .name("Ana Gomez")
+                .salary(new BigDecimal("5000000"))
+                .affiliationDate(LocalDate.of(2020, 5, 1))
+                .status(Affiliate.AffiliateStatus.ACTIVE)
+                .build();
+        applications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            applications.add(CreditApplication.builder()
+                    .id((long) i)
+                    .affiliate(affiliate)
+                    .requestedAmount(new BigDecimal("20000000"))
+                    .termMonths(36)
+                    .applicationDate(LocalDateTime.of(2025, 12, 9, 20, 30).plusMinutes(i))
+                    .status(CreditApplication.CreditStatus.APPROVED)
+                    .riskEvaluation(RiskEvaluation.builder()
+                            .score(720)
+                            .riskLevel("BAJO")
+                            .decisionReason("Historial positivo")
+                            .evaluationDate(LocalDateTime.of(2025, 12, 9, 20, 31))
+                            .build())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(applications);
+    }
+}
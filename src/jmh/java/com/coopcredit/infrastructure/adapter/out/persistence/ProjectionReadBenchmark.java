@@ -0,0 +1,174 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.CoopCreditApplication;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.infrastructure.adapter.in.web.UserManagementController.UserSummary;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.UserSummaryRow;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List reads over 100k rows: managed entities (the affiliate fetched with each
+ * application, or the EAGER association of each user) against the read-only
+ * projections the adapters use now. The gc profiler of the jmh profile reports
+ * the allocation per call next to the latency.
+ *
+ * <p>Runs against a Testcontainers PostgreSQL unless BENCHMARK_DATASOURCE_URL
+ * (with _USERNAME and _PASSWORD) points at a scratch database; the rows are
+ * seeded on first use and kept for later runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProjectionReadBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private CreditApplicationRepositoryAdapter creditAdapter;
+    private SpringDataUserRepository userRepository;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getenv("BENCHMARK_DATASOURCE_URL");
+        String username = System.getenv("BENCHMARK_DATASOURCE_USERNAME");
+        String password = System.getenv("BENCHMARK_DATASOURCE_PASSWORD");
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        // Arguments, not default properties, so they win over application.properties
+        context = new SpringApplicationBuilder(CoopCreditApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        creditAdapter = context.getBean(CreditApplicationRepositoryAdapter.class);
+        userRepository = context.getBean(SpringDataUserRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    // One affiliate per row, each with a user and a PENDING application
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Integer seeded = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM affiliates WHERE document LIKE 'bench%'", Integer.class);
+        if (seeded != null && seeded > 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO affiliates (document, name, salary, affiliation_date, status)
+                SELECT 'bench' || lpad(g::text, 10, '0'), 'Afiliado ' || g, 5000000, DATE '2020-01-01', 'ACTIVE'
+                  FROM generate_series(1, ?) g
+                """, ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO credit_applications (affiliate_id, requested_amount, term_months, application_date, status)
+                SELECT a.id, 10000000, 36, TIMESTAMP '2025-01-01' + a.id * INTERVAL '1 minute', 'PENDING'
+                  FROM affiliates a WHERE a.document LIKE 'bench%'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO users (username, password, role, affiliate_id)
+                SELECT 'bench' || a.id, 'not-a-hash', 'ROLE_AFILIADO', a.id
+                  FROM affiliates a WHERE a.document LIKE 'bench%'
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    /**
+     * The previous /pendientes read: entities with the affiliate fetch-joined,
+     * managed and snapshotted by the session, then mapped to the domain.
+     */
+    @Benchmark
+    public List<CreditApplication> pendingAsEntities() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager.createQuery(
+                    "select c from CreditApplicationEntity c join fetch c.affiliate where c.status = :status",
+                    CreditApplicationEntity.class)
+                    .setParameter("status", CreditApplication.CreditStatus.PENDING.name())
+                    .getResultList().stream()
+                    .map(creditAdapter::toDomain)
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public List<CreditApplication> pendingAsProjections() {
+        return creditAdapter.findByStatus(CreditApplication.CreditStatus.PENDING);
+    }
+
+    /**
+     * The previous GET /api/admin/users: findAll() loads the EAGER affiliate of
+     * each linked user with its own select.
+     */
+    @Benchmark
+    public List<UserSummary> usersAsEntities() {
+        return userRepository.findAll().stream()
+                .map(ProjectionReadBenchmark::summary)
+                .toList();
+    }
+
+    @Benchmark
+    public List<UserSummary> usersAsProjections() {
+        return userRepository.findAllSummaries().stream()
+                .map(ProjectionReadBenchmark::summary)
+                .toList();
+    }
+
+    private static UserSummary summary(UserEntity user) {
+        UserSummary summary = new UserSummary();
+        summary.setId(user.getId());
+        summary.setUsername(user.getUsername());
+        summary.setRole(user.getRole());
+        if (user.getAffiliate() != null) {
+            summary.setAffiliateDocument(user.getAffiliate().getDocument());
+            summary.setAffiliateName(user.getAffiliate().getName());
+        }
+        return summary;
+    }
+
+    private static UserSummary summary(UserSummaryRow user) {
+        UserSummary summary = new UserSummary();
+        summary.setId(user.id());
+        summary.setUsername(user.username());
+        summary.setRole(user.role());
+        summary.setAffiliateDocument(user.affiliateDocument());
+        summary.setAffiliateName(user.affiliateName());
+        return summary;
+    }
+}
@@ -0,0 +1,100 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.CreditApplicationRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/domain mappers of both repository adapters, called once per row on
+ * every read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryMapperBenchmark {
+
+    private CreditApplicationRepositoryAdapter creditAdapter;
+    private AffiliateRepositoryAdapter affiliateAdapter;
+    private CreditApplication application;
+    private CreditApplicationEntity applicationEntity;
+    private CreditApplicationRow applicationRow;
+    private Affiliate affiliate;
+    private AffiliateEntity affiliateEntity;
+
+    @Setup
+    public void setUp() {
+        // Mappers touch neither the Spring Data repository nor JDBC
+        creditAdapter = new CreditApplicationRepositoryAdapter(null, null);
+        affiliateAdapter = new AffiliateRepositoryAdapter(null, null);
+
+        affiliate = Affiliate.builder()
+                .id(1L)
+                .document("12345678")
+                .name("Ana Gomez")
+                .salary(new BigDecimal("5000000"))
+                .affiliationDate(LocalDate.of(2020, 5, 1))
+                .status(Affiliate.AffiliateStatus.ACTIVE)
+                .build();
+        application = CreditApplication.builder()
+                .id(10L)
+                .affiliate(affiliate)
+                .requestedAmount(new BigDecimal("20000000"))
+                .termMonths(36)
+                .proposedRate(new BigDecimal("0.0150"))
+                .applicationDate(LocalDateTime.of(2025, 12, 9, 20, 30))
+                .status(CreditApplication.CreditStatus.APPROVED)
+                .riskEvaluation(RiskEvaluation.builder()
+                        .score(720)
+                        .riskLevel("BAJO")
+                        .decisionReason("Historial positivo")
+                        .evaluationDate(LocalDateTime.of(2025, 12, 9, 20, 31))
+                        .build())
+                .build();
+        affiliateEntity = affiliateAdapter.toEntity(affiliate);
+        applicationEntity = creditAdapter.toEntity(application);
+        applicationEntity.setAffiliate(affiliateEntity);
+        applicationRow = new CreditApplicationRow(10L, new BigDecimal("20000000"), 36, new BigDecimal("0.0150"),
+                LocalDateTime.of(2025, 12, 9, 20, 30), "APPROVED", 720, "BAJO", "Historial positivo",
+                LocalDateTime.of(2025, 12, 9, 20, 31), 2L, 1L, "12345678", "Ana Gomez");
+    }
+
+    @Benchmark
+    public CreditApplicationEntity creditApplicationToEntity() {
+        return creditAdapter.toEntity(application);
+    }
+
+    @Benchmark
+    public CreditApplication creditApplicationToDomain() {
+        return creditAdapter.toDomain(applicationEntity);
+    }
+
+    @Benchmark
+    public CreditApplication creditApplicationRowToDomain() {
+        return creditAdapter.toDomain(applicationRow);
+    }
+
+    @Benchmark
+    public AffiliateEntity affiliateToEntity() {
+        return affiliateAdapter.toEntity(affiliate);
+    }
+
+    @Benchmark
+    public Affiliate affiliateToDomain() {
+        return affiliateAdapter.toDomain(affiliateEntity);
+    }
+}
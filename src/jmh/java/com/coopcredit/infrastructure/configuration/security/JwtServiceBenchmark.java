@@ -0,0 +1,56 @@
+package com.coopcredit.infrastructure.configuration.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing at login and token checking in the authentication filter:
+ * a full signature-verifying parse versus a hit in the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "7d4c6e5a6f2b7a8d9e1c3f5a8b2d4e7f1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86_400_000, 10_000, Duration.ofMinutes(5));
+        token = jwtService.generateToken("jane", "ROLE_AFILIADO", "12345678");
+        jwtService.authenticate(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("jane", "ROLE_AFILIADO", "12345678");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    // What the filter pays on a cache miss (replaces the former isTokenValid)
+    @Benchmark
+    public Claims parseToken() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser authenticateCached() {
+        return jwtService.authenticate(token);
+    }
+}
@@ -0,0 +1,69 @@
+package com.coopcredit.infrastructure.configuration.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins per second on one core at each BCrypt cost: the password check of
+ * POST /auth/login through the same provider setup as AppConfig, with the user
+ * lookup stubbed out. {@code loginAfterCostChange} is the first login of each
+ * user after the cost is changed from the default 10: the check at the old
+ * cost plus the rehash at the new one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "secret123";
+
+    @Param({ "8", "10", "12" })
+    public int strength;
+
+    private DaoAuthenticationProvider provider;
+    private DaoAuthenticationProvider providerAfterCostChange;
+
+    @Setup
+    public void setUp() {
+        RehashingBCryptPasswordEncoder encoder = new RehashingBCryptPasswordEncoder(strength);
+        provider = provider(encoder, new AccountUserDetails("jane", encoder.encode(PASSWORD),
+                "ROLE_AFILIADO", "12345678"));
+
+        // The rehash is not stored, so every call pays for it as a user's first login would
+        String defaultCostHash = new RehashingBCryptPasswordEncoder(10).encode(PASSWORD);
+        providerAfterCostChange = provider(encoder, new AccountUserDetails("jane", defaultCostHash,
+                "ROLE_AFILIADO", "12345678"));
+    }
+
+    private static DaoAuthenticationProvider provider(RehashingBCryptPasswordEncoder encoder, AccountUserDetails user) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> user);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService((details, newPassword) -> details);
+        return provider;
+    }
+
+    @Benchmark
+    public Authentication login() {
+        return provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("jane", PASSWORD));
+    }
+
+    @Benchmark
+    public Authentication loginAfterCostChange() {
+        return providerAfterCostChange.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("jane", PASSWORD));
+    }
+}
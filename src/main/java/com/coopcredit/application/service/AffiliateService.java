@@ -1,18 +1,31 @@
 package com.coopcredit.application.service;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateImportReport;
+import com.coopcredit.domain.model.AffiliateImportResult;
+import com.coopcredit.domain.model.AffiliateImportRow;
+import com.coopcredit.domain.model.CursorPage;
 import com.coopcredit.domain.port.in.ManageAffiliateUseCase;
 import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "coopcredit.usecase", description = "Use case execution time")
 public class AffiliateService implements ManageAffiliateUseCase {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final AffiliateRepositoryPort affiliateRepository;
 
     @Override
@@ -55,7 +68,77 @@ public class AffiliateService implements ManageAffiliateUseCase {
     }
 
     @Override
-    public java.util.List<Affiliate> getAllAffiliates() {
-        return affiliateRepository.findAll();
+    @Transactional
+    public AffiliateImportReport importAffiliates(List<AffiliateImportRow> rows) {
+        if (rows.size() > MAX_IMPORT_ROWS) {
+            throw new IllegalArgumentException("An import cannot exceed " + MAX_IMPORT_ROWS + " rows");
+        }
+
+        AffiliateImportResult[] results = new AffiliateImportResult[rows.size()];
+        Set<String> seen = new HashSet<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+        List<Affiliate> candidates = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            AffiliateImportRow row = rows.get(i);
+            Affiliate affiliate = row.getAffiliate();
+            String document = affiliate != null ? affiliate.getDocument() : null;
+            // Parsed and validated by the input adapter, against the same rules as a single create
+            String error = row.getError();
+
+            if (error != null) {
+                results[i] = importResult(row, document, AffiliateImportResult.Status.INVALID, error);
+            } else if (!seen.add(document)) {
+                results[i] = importResult(row, document, AffiliateImportResult.Status.DUPLICATE,
+                        "Document repeated in this file");
+            } else {
+                // Default Active
+                affiliate.setStatus(Affiliate.AffiliateStatus.ACTIVE);
+                candidateIndexes.add(i);
+                candidates.add(affiliate);
+            }
+        }
+
+        // Duplicates against existing affiliates are resolved by the unique index, not one lookup per row
+        Set<String> inserted = new HashSet<>(affiliateRepository.insertAll(candidates));
+        for (int index : candidateIndexes) {
+            AffiliateImportRow row = rows.get(index);
+            String document = row.getAffiliate().getDocument();
+            results[index] = inserted.contains(document)
+                    ? importResult(row, document, AffiliateImportResult.Status.IMPORTED, null)
+                    : importResult(row, document, AffiliateImportResult.Status.DUPLICATE,
+                            "Affiliate with this document already exists");
+        }
+
+        List<AffiliateImportResult> report = Arrays.asList(results);
+        return AffiliateImportReport.builder()
+                .total(report.size())
+                .imported(inserted.size())
+                .duplicates(count(report, AffiliateImportResult.Status.DUPLICATE))
+                .invalid(count(report, AffiliateImportResult.Status.INVALID))
+                .rows(report)
+                .build();
+    }
+
+    @Override
+    public CursorPage<Affiliate> getAffiliates(Affiliate.AffiliateStatus status, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return affiliateRepository.findPage(status, cursor, size);
+    }
+
+    private AffiliateImportResult importResult(AffiliateImportRow row, String document,
+            AffiliateImportResult.Status status, String message) {
+        return AffiliateImportResult.builder()
+                .line(row.getLine())
+                .document(document)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private int count(List<AffiliateImportResult> results, AffiliateImportResult.Status status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
     }
 }
@@ -1,39 +1,87 @@
 package com.coopcredit.application.service;
 
+import com.coopcredit.domain.exception.ApplicationStateConflictException;
 import com.coopcredit.domain.model.Affiliate;
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.domain.model.CursorPage;
+import com.coopcredit.domain.model.EvaluationResult;
+import com.coopcredit.domain.model.PortfolioStatistics;
+import com.coopcredit.domain.model.PortfolioStatisticsEntry;
 import com.coopcredit.domain.model.RiskEvaluation;
 import com.coopcredit.domain.port.in.ProcessCreditApplicationUseCase;
 import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.domain.port.out.CreditMetricsPort;
+import com.coopcredit.domain.port.out.CreditMetricsPort.RejectionReason;
 import com.coopcredit.domain.port.out.RiskServicePort;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "coopcredit.usecase", description = "Use case execution time")
 public class CreditApplicationService implements ProcessCreditApplicationUseCase {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    // Statistics key for decided applications the risk central returned no level for
+    private static final String UNKNOWN_RISK_LEVEL = "UNKNOWN";
+
     private final CreditApplicationRepositoryPort creditRepository;
     private final AffiliateRepositoryPort affiliateRepository;
     private final RiskServicePort riskService;
+    private final CreditMetricsPort creditMetrics;
+    // Spring Boot's applicationTaskExecutor (alias taskExecutor); sized through spring.task.execution.pool.*
+    private final Executor taskExecutor;
 
     @Override
     @Transactional
     public CreditApplication registerApplication(CreditApplication application, String affiliateDocument) {
         Affiliate affiliate = affiliateRepository.findByDocument(affiliateDocument)
-                .orElseThrow(() -> new IllegalArgumentException("Affiliate not found"));
+                .orElseThrow(() -> reject(RejectionReason.AFFILIATE_NOT_FOUND, "Affiliate not found"));
+
+        validateEligibility(affiliate, application);
 
+        application.setAffiliate(affiliate);
+        application.setApplicationDate(LocalDateTime.now());
+        application.setStatus(CreditApplication.CreditStatus.PENDING);
+
+        // Save with PENDING status - Risk evaluation will be done separately
+        return creditRepository.save(application);
+    }
+
+    /**
+     * Business rules checked before an application is accepted. Package-private
+     * so the JMH benchmarks can measure it without a repository.
+     */
+    void validateEligibility(Affiliate affiliate, CreditApplication application) {
         if (!affiliate.isActive()) {
-            throw new IllegalArgumentException("Affiliate is not ACTIVE");
+            throw reject(RejectionReason.AFFILIATE_INACTIVE, "Affiliate is not ACTIVE");
         }
 
         // 1. Validate Seniority (Minimum 6 months)
         if (affiliate.getAffiliationDate().isAfter(java.time.LocalDate.now().minusMonths(6))) {
-            throw new IllegalArgumentException("Affiliate seniority must be at least 6 months");
+            throw reject(RejectionReason.INSUFFICIENT_SENIORITY, "Affiliate seniority must be at least 6 months");
         }
 
         // 2. Validate Debt Capacity (Monthly installment <= 50% of salary)
@@ -43,42 +91,279 @@ public class CreditApplicationService implements ProcessCreditApplicationUseCase
         java.math.BigDecimal maxCapacity = affiliate.getSalary().multiply(java.math.BigDecimal.valueOf(0.5));
 
         if (installment.compareTo(maxCapacity) > 0) {
-            throw new IllegalArgumentException(
+            throw reject(RejectionReason.DEBT_CAPACITY_EXCEEDED,
                     String.format("Estimated monthly installment ($%s) exceeds 50%% of salary", installment));
         }
 
         // 3. Validate Maximum Amount (max 12x salary)
         java.math.BigDecimal maxAmount = affiliate.getSalary().multiply(java.math.BigDecimal.valueOf(12));
         if (application.getRequestedAmount().compareTo(maxAmount) > 0) {
-            throw new IllegalArgumentException(
+            throw reject(RejectionReason.MAX_AMOUNT_EXCEEDED,
                     String.format("Requested amount ($%s) exceeds maximum allowed ($%s = 12x salary)",
                             application.getRequestedAmount(), maxAmount));
         }
+    }
 
-        application.setAffiliate(affiliate);
-        application.setApplicationDate(LocalDateTime.now());
-        application.setStatus(CreditApplication.CreditStatus.PENDING);
-
-        // Save with PENDING status - Risk evaluation will be done separately
-        return creditRepository.save(application);
+    private IllegalArgumentException reject(RejectionReason reason, String message) {
+        creditMetrics.applicationRejected(reason);
+        return new IllegalArgumentException(message);
     }
 
+    /**
+     * Not transactional on purpose: the application is read and claimed in short
+     * transactions, the risk service is called with no connection checked out, and
+     * the decision is written in a final short transaction. A slow risk central
+     * therefore cannot drain the connection pool.
+     */
     @Override
-    @Transactional
     public CreditApplication evaluateApplication(Long applicationId) {
+        CreditApplication application = claim(applicationId);
+
+        // Call Risk Service with document, amount, term
+        RiskEvaluation risk;
+        try {
+            risk = riskService.evaluateRisk(
+                    application.getAffiliate().getDocument(),
+                    application.getRequestedAmount(),
+                    application.getTermMonths());
+        } catch (RuntimeException e) {
+            creditRepository.releaseClaims(List.of(applicationId));
+            throw e;
+        }
+        return decide(application, risk);
+    }
+
+    /**
+     * Same steps as {@link #evaluateApplication}, but no thread waits for the risk
+     * central. The answer arrives on the HTTP client's I/O threads, so the decision
+     * write (or the claim release) is handed to the task executor rather than run
+     * there.
+     */
+    @Override
+    public CompletableFuture<CreditApplication> evaluateApplicationAsync(Long applicationId) {
+        CreditApplication application = claim(applicationId);
+
+        CompletableFuture<RiskEvaluation> risk;
+        try {
+            risk = riskService.evaluateRiskAsync(
+                    application.getAffiliate().getDocument(),
+                    application.getRequestedAmount(),
+                    application.getTermMonths());
+        } catch (RuntimeException e) {
+            creditRepository.releaseClaims(List.of(applicationId));
+            throw e;
+        }
+        return risk.handleAsync((evaluation, error) -> {
+            if (error != null) {
+                creditRepository.releaseClaims(List.of(applicationId));
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+            }
+            return decide(application, evaluation);
+        }, taskExecutor);
+    }
+
+    /**
+     * Reads the application and moves it from PENDING to EVALUATING. Throws if it
+     * does not exist, was already decided, or another evaluation holds it. An
+     * EVALUATING application whose lease expired is claimed again.
+     */
+    private CreditApplication claim(Long applicationId) {
         CreditApplication application = creditRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
-        if (application.getStatus() != CreditApplication.CreditStatus.PENDING) {
+        if (!isClaimable(application)) {
             throw new IllegalArgumentException(
                     String.format("Application has already been evaluated. Current status: %s", application.getStatus()));
         }
 
-        // Call Risk Service with document, amount, term
-        RiskEvaluation risk = riskService.evaluateRisk(
-                application.getAffiliate().getDocument(),
-                application.getRequestedAmount(),
-                application.getTermMonths());
+        // Conditional PENDING -> EVALUATING update: of concurrent callers only one gets the row back and
+        // goes on to the risk central; the others, and callers of a row under a live lease, fail fast
+        // instead of paying for a duplicate remote call
+        if (creditRepository.claimForEvaluation(List.of(applicationId)).isEmpty()) {
+            throw new ApplicationStateConflictException("Application is already being evaluated");
+        }
+        return application;
+    }
+
+    // EVALUATING ones are left to the claim, which only takes them once their lease has expired
+    private static boolean isClaimable(CreditApplication application) {
+        return application.getStatus() == CreditApplication.CreditStatus.PENDING
+                || application.getStatus() == CreditApplication.CreditStatus.EVALUATING;
+    }
+
+    private CreditApplication decide(CreditApplication application, RiskEvaluation risk) {
+        applyDecision(application, risk);
+
+        if (!creditRepository.saveDecisions(List.of(application)).get(0)) {
+            throw new ApplicationStateConflictException(
+                    "Evaluation claim was lost for application " + application.getId());
+        }
+        creditMetrics.applicationDecided(application.getStatus());
+        return application;
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateApplications(List<Long> applicationIds) {
+        List<Long> ids = applicationIds.stream().distinct().toList();
+        Map<Long, CreditApplication> loaded = creditRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CreditApplication::getId, Function.identity()));
+        return evaluateBatch(ids, loaded);
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateApplicationsByStatus(CreditApplication.CreditStatus status, int limit) {
+        List<CreditApplication> applications = creditRepository.findByStatus(status, limit);
+        Map<Long, CreditApplication> loaded = new LinkedHashMap<>();
+        applications.forEach(app -> loaded.put(app.getId(), app));
+        return evaluateBatch(new ArrayList<>(loaded.keySet()), loaded);
+    }
+
+    /**
+     * Claims the pending applications and evaluates the ones claimed. Failures
+     * are reported per application and never affect the others.
+     */
+    private List<EvaluationResult> evaluateBatch(List<Long> ids, Map<Long, CreditApplication> loaded) {
+        Map<Long, EvaluationResult> results = new LinkedHashMap<>();
+        List<Long> pending = new ArrayList<>();
+
+        for (Long id : ids) {
+            CreditApplication application = loaded.get(id);
+            if (application == null) {
+                results.put(id, result(id, EvaluationResult.Outcome.NOT_FOUND, null, "Application not found"));
+            } else if (!isClaimable(application)) {
+                results.put(id, result(id, EvaluationResult.Outcome.SKIPPED, application,
+                        String.format("Application has already been evaluated. Current status: %s",
+                                application.getStatus())));
+            } else {
+                pending.add(id);
+            }
+        }
+
+        Set<Long> claimed = pending.isEmpty() ? Set.of() : new HashSet<>(creditRepository.claimForEvaluation(pending));
+        List<Long> toEvaluate = new ArrayList<>();
+        for (Long id : pending) {
+            if (claimed.contains(id)) {
+                toEvaluate.add(id);
+            } else {
+                results.put(id, result(id, EvaluationResult.Outcome.SKIPPED, loaded.get(id),
+                        "Application is already being evaluated"));
+            }
+        }
+
+        evaluateClaimed(toEvaluate, loaded, results);
+        return ids.stream().map(results::get).toList();
+    }
+
+    /**
+     * Not transactional for the same reason as {@link #evaluateApplication}: the
+     * claim, the risk calls and the decisions each run on their own.
+     */
+    @Override
+    public List<EvaluationResult> evaluateNextPending(int limit) {
+        creditRepository.releaseExpiredClaims();
+        List<Long> claimed = creditRepository.claimNextForEvaluation(limit);
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CreditApplication> loaded = creditRepository.findAllById(claimed).stream()
+                .collect(Collectors.toMap(CreditApplication::getId, Function.identity()));
+        Map<Long, EvaluationResult> results = new LinkedHashMap<>();
+        evaluateClaimed(claimed, loaded, results);
+        return claimed.stream().map(results::get).toList();
+    }
+
+    /**
+     * Runs the risk calls of the claimed applications concurrently with no
+     * transaction open, writes every decision in one batch and releases the
+     * claims of those that failed. One result per id is added to {@code results}.
+     */
+    private void evaluateClaimed(List<Long> claimed, Map<Long, CreditApplication> loaded,
+            Map<Long, EvaluationResult> results) {
+        Map<Long, CompletableFuture<RiskEvaluation>> calls = new LinkedHashMap<>();
+        List<Long> released = new ArrayList<>();
+        for (Long id : claimed) {
+            CreditApplication application = loaded.get(id);
+            if (application == null) {
+                results.put(id, result(id, EvaluationResult.Outcome.NOT_FOUND, null, "Application not found"));
+            } else {
+                calls.put(id, riskCall(application));
+            }
+        }
+
+        List<CreditApplication> decided = new ArrayList<>();
+        calls.forEach((id, call) -> {
+            CreditApplication application = loaded.get(id);
+            try {
+                applyDecision(application, call.join());
+                decided.add(application);
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                results.put(id, result(id, EvaluationResult.Outcome.FAILED, application, cause.getMessage()));
+                released.add(id);
+            }
+        });
+
+        List<Boolean> written = saveDecisions(decided);
+        for (int i = 0; i < decided.size(); i++) {
+            CreditApplication application = decided.get(i);
+            if (Boolean.TRUE.equals(written.get(i))) {
+                creditMetrics.applicationDecided(application.getStatus());
+                EvaluationResult.Outcome outcome = application.getStatus() == CreditApplication.CreditStatus.APPROVED
+                        ? EvaluationResult.Outcome.APPROVED
+                        : EvaluationResult.Outcome.REJECTED;
+                results.put(application.getId(), result(application.getId(), outcome, application, null));
+            } else if (written.get(i) == null) {
+                results.put(application.getId(), result(application.getId(), EvaluationResult.Outcome.FAILED,
+                        application, "Decision could not be saved"));
+                released.add(application.getId());
+            } else {
+                results.put(application.getId(), result(application.getId(), EvaluationResult.Outcome.SKIPPED,
+                        application, "Evaluation claim was lost"));
+            }
+        }
+
+        if (!released.isEmpty()) {
+            creditRepository.releaseClaims(released);
+        }
+    }
+
+    // Non-blocking risk call, so a batch keeps no thread per application in flight
+    private CompletableFuture<RiskEvaluation> riskCall(CreditApplication application) {
+        try {
+            return riskService.evaluateRiskAsync(
+                    application.getAffiliate().getDocument(),
+                    application.getRequestedAmount(),
+                    application.getTermMonths());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Writes the decisions as one batch; if the batch fails, falls back to one
+     * write per application so a single bad row does not sink the rest.
+     * A {@code null} entry marks a decision that could not be written.
+     */
+    private List<Boolean> saveDecisions(List<CreditApplication> decided) {
+        try {
+            return creditRepository.saveDecisions(decided);
+        } catch (RuntimeException batchFailure) {
+            List<Boolean> written = new ArrayList<>(decided.size());
+            for (CreditApplication application : decided) {
+                try {
+                    written.add(creditRepository.saveDecisions(List.of(application)).get(0));
+                } catch (RuntimeException e) {
+                    written.add(null);
+                }
+            }
+            return written;
+        }
+    }
+
+    private void applyDecision(CreditApplication application, RiskEvaluation risk) {
         application.setRiskEvaluation(risk);
 
         // Business Logic for Approval/Rejection
@@ -87,8 +372,16 @@ public class CreditApplicationService implements ProcessCreditApplicationUseCase
         } else {
             application.setStatus(CreditApplication.CreditStatus.APPROVED);
         }
+    }
 
-        return creditRepository.save(application);
+    private EvaluationResult result(Long id, EvaluationResult.Outcome outcome, CreditApplication application,
+            String message) {
+        return EvaluationResult.builder()
+                .applicationId(id)
+                .outcome(outcome)
+                .application(application)
+                .message(message)
+                .build();
     }
 
     @Override
@@ -97,14 +390,107 @@ public class CreditApplicationService implements ProcessCreditApplicationUseCase
     }
 
     @Override
-    public java.util.List<CreditApplication> getAllApplications() {
-        // Warning: This could be large in production. Pagination recommended for
-        // future.
-        // Since findAll() is not in the Port by default, we need to add it or use a
-        // specific finder.
-        // For strict Hexagonal, we should add findAll to
-        // CreditApplicationRepositoryPort.
-        return creditRepository.findAll();
+    public CursorPage<CreditApplication> getApplications(CreditApplicationFilter filter, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        return creditRepository.findPage(filter, cursor, size);
+    }
+
+    @Override
+    public PortfolioStatistics getStatistics(YearMonth from, YearMonth to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        List<PortfolioStatisticsEntry> entries = creditRepository.findStatistics(from, to);
+
+        Map<YearMonth, List<PortfolioStatisticsEntry>> byMonth = entries.stream()
+                .collect(Collectors.groupingBy(PortfolioStatisticsEntry::getMonth, TreeMap::new, Collectors.toList()));
+        return PortfolioStatistics.builder()
+                .from(from)
+                .to(to)
+                .total(summarize(null, entries))
+                .months(byMonth.entrySet().stream()
+                        .map(month -> summarize(month.getKey(), month.getValue()))
+                        .toList())
+                .build();
+    }
+
+    private PortfolioStatistics.Summary summarize(YearMonth month, List<PortfolioStatisticsEntry> entries) {
+        Map<CreditApplication.CreditStatus, PortfolioStatistics.StatusSummary> byStatus =
+                new EnumMap<>(CreditApplication.CreditStatus.class);
+        for (CreditApplication.CreditStatus status : List.of(CreditApplication.CreditStatus.PENDING,
+                CreditApplication.CreditStatus.APPROVED, CreditApplication.CreditStatus.REJECTED)) {
+            List<PortfolioStatisticsEntry> ofStatus = entries.stream()
+                    .filter(entry -> entry.getStatus() == status)
+                    .toList();
+            long count = ofStatus.stream().mapToLong(PortfolioStatisticsEntry::getCount).sum();
+            BigDecimal amount = sumAmounts(ofStatus);
+            byStatus.put(status, PortfolioStatistics.StatusSummary.builder()
+                    .count(count)
+                    .requestedAmountSum(amount)
+                    .requestedAmountAverage(average(amount, count))
+                    .build());
+        }
+
+        Map<String, List<PortfolioStatisticsEntry>> decidedByLevel = entries.stream()
+                .filter(entry -> entry.getStatus() != CreditApplication.CreditStatus.PENDING)
+                .collect(Collectors.groupingBy(
+                        entry -> entry.getRiskLevel() != null ? entry.getRiskLevel() : UNKNOWN_RISK_LEVEL,
+                        TreeMap::new, Collectors.toList()));
+        Map<String, PortfolioStatistics.RiskLevelSummary> byRiskLevel = new LinkedHashMap<>();
+        decidedByLevel.forEach((level, ofLevel) -> byRiskLevel.put(level, summarizeRiskLevel(ofLevel)));
+
+        long count = entries.stream().mapToLong(PortfolioStatisticsEntry::getCount).sum();
+        BigDecimal amount = sumAmounts(entries);
+        return PortfolioStatistics.Summary.builder()
+                .month(month)
+                .count(count)
+                .requestedAmountSum(amount)
+                .requestedAmountAverage(average(amount, count))
+                .byStatus(byStatus)
+                .byRiskLevel(byRiskLevel)
+                .build();
+    }
+
+    private PortfolioStatistics.RiskLevelSummary summarizeRiskLevel(List<PortfolioStatisticsEntry> entries) {
+        Map<Integer, Long> byBand = new TreeMap<>();
+        long scored = 0;
+        long scoreSum = 0;
+        for (PortfolioStatisticsEntry entry : entries) {
+            if (entry.getScoreBand() != null) {
+                byBand.merge(entry.getScoreBand(), entry.getCount(), Long::sum);
+                scored += entry.getCount();
+                scoreSum += entry.getRiskScoreSum();
+            }
+        }
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        byBand.forEach((band, count) -> distribution.put(
+                band + "-" + (band + PortfolioStatistics.RiskLevelSummary.SCORE_BAND_WIDTH - 1), count));
+
+        return PortfolioStatistics.RiskLevelSummary.builder()
+                .count(entries.stream().mapToLong(PortfolioStatisticsEntry::getCount).sum())
+                .averageScore(scored > 0 ? Math.round(scoreSum * 10.0 / scored) / 10.0 : null)
+                .scoreDistribution(distribution)
+                .build();
+    }
+
+    private static BigDecimal sumAmounts(List<PortfolioStatisticsEntry> entries) {
+        return entries.stream()
+                .map(PortfolioStatisticsEntry::getRequestedAmountSum)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal average(BigDecimal sum, long count) {
+        return count > 0 ? sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) : null;
+    }
+
+    @Override
+    public void exportApplications(Long afterId, java.util.function.Consumer<CreditApplication> sink) {
+        creditRepository.streamAll(afterId, sink);
     }
 
     @Override
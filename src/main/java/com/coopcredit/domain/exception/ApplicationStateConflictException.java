@@ -0,0 +1,13 @@
+package com.coopcredit.domain.exception;
+
+/**
+ * The application changed state under the caller: another evaluation claimed it
+ * first, or it was modified since it was read. Retrying the same operation right
+ * away would meet the same state, so the caller should read it again.
+ */
+public class ApplicationStateConflictException extends RuntimeException {
+
+    public ApplicationStateConflictException(String message) {
+        super(message);
+    }
+}
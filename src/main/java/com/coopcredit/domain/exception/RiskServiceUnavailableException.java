@@ -0,0 +1,25 @@
+package com.coopcredit.domain.exception;
+
+import java.time.Duration;
+
+/**
+ * The risk central could not produce an evaluation: it failed, timed out, or is
+ * being skipped while it recovers. The application stays PENDING and can be
+ * evaluated again later.
+ */
+public class RiskServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RiskServiceUnavailableException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Suggested wait before retrying, or {@code null} when unknown.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
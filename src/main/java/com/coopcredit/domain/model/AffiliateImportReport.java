@@ -0,0 +1,20 @@
+package com.coopcredit.domain.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AffiliateImportReport {
+    private int total;
+    private int imported;
+    private int duplicates;
+    private int invalid;
+    private List<AffiliateImportResult> rows;
+}
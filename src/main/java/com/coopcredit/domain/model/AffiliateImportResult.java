@@ -0,0 +1,21 @@
+package com.coopcredit.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AffiliateImportResult {
+    private int line;
+    private String document;
+    private Status status;
+    private String message;
+
+    public enum Status {
+        IMPORTED, DUPLICATE, INVALID
+    }
+}
@@ -0,0 +1,21 @@
+package com.coopcredit.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One input row of a bulk affiliate import. {@code error} is set when the row
+ * could not be parsed, and then {@code affiliate} is null, or when it failed
+ * validation.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AffiliateImportRow {
+    private int line;
+    private Affiliate affiliate;
+    private String error;
+}
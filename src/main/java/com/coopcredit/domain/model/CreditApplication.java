@@ -21,8 +21,11 @@ public class CreditApplication {
     private LocalDateTime applicationDate;
     private CreditStatus status;
     private RiskEvaluation riskEvaluation;
+    // Optimistic lock version; null until the application is first saved
+    private Long version;
 
     public enum CreditStatus {
-        PENDING, APPROVED, REJECTED
+        // EVALUATING: claimed by an evaluation whose risk call is in flight
+        PENDING, EVALUATING, APPROVED, REJECTED
     }
 }
@@ -0,0 +1,26 @@
+package com.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional criteria for listing credit applications; null fields are ignored.
+ * Date range is [from, to), amount range is inclusive.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreditApplicationFilter {
+    private CreditApplication.CreditStatus status;
+    private String affiliateDocument;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+}
@@ -0,0 +1,21 @@
+package com.coopcredit.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EvaluationResult {
+    private Long applicationId;
+    private Outcome outcome;
+    private CreditApplication application;
+    private String message;
+
+    public enum Outcome {
+        APPROVED, REJECTED, SKIPPED, NOT_FOUND, FAILED
+    }
+}
@@ -0,0 +1,27 @@
+package com.coopcredit.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of an Idempotency-Key: the fingerprint of the request that first used
+ * it and, once that request finished, the response to replay. {@code acquired}
+ * is true only for the caller that has just reserved the key and must now run
+ * the request.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyRecord {
+    private String requestHash;
+    private boolean acquired;
+    // Null while the first request is still in progress
+    private IdempotentResponse response;
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.coopcredit.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response stored for an Idempotency-Key and served again to retries.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotentResponse {
+    private int status;
+    private String contentType;
+    // Location header, e.g. of a created application
+    private String location;
+    private byte[] body;
+}
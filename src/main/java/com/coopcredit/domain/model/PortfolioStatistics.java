@@ -0,0 +1,67 @@
+package com.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Portfolio figures for a range of months: the whole range in {@code total},
+ * then one {@link Summary} per month that has applications. Applications being
+ * evaluated still count as PENDING.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PortfolioStatistics {
+    private YearMonth from;
+    private YearMonth to;
+    private Summary total;
+    private List<Summary> months;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Summary {
+        // Null for the range total
+        private YearMonth month;
+        private long count;
+        private BigDecimal requestedAmountSum;
+        private BigDecimal requestedAmountAverage;
+        private Map<CreditApplication.CreditStatus, StatusSummary> byStatus;
+        private Map<String, RiskLevelSummary> byRiskLevel;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class StatusSummary {
+        private long count;
+        private BigDecimal requestedAmountSum;
+        private BigDecimal requestedAmountAverage;
+    }
+
+    /**
+     * Decided applications of one risk level. {@code scoreDistribution} counts
+     * them by score band of {@link #SCORE_BAND_WIDTH} points, keyed "600-699".
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RiskLevelSummary {
+        public static final int SCORE_BAND_WIDTH = 100;
+
+        private long count;
+        private Double averageScore;
+        private Map<String, Long> scoreDistribution;
+    }
+}
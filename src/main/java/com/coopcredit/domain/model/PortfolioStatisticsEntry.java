@@ -0,0 +1,29 @@
+package com.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of the applications of one month sharing status, risk level
+ * and score band, as kept by the persistence layer. Undecided applications have
+ * a null risk level and score band.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PortfolioStatisticsEntry {
+    private YearMonth month;
+    private CreditApplication.CreditStatus status;
+    private String riskLevel;
+    // Lower bound of the score band, e.g. 600 for 600-699
+    private Integer scoreBand;
+    private long count;
+    private BigDecimal requestedAmountSum;
+    private long riskScoreSum;
+}
@@ -1,14 +1,28 @@
 package com.coopcredit.domain.port.in;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateImportReport;
+import com.coopcredit.domain.model.AffiliateImportRow;
+import com.coopcredit.domain.model.CursorPage;
+import java.util.List;
 import java.util.Optional;
 
 public interface ManageAffiliateUseCase {
+    /** Máximo de filas por importación en bloque */
+    int MAX_IMPORT_ROWS = 200_000;
+
     Affiliate createAffiliate(Affiliate affiliate);
 
     Optional<Affiliate> getAffiliate(String document);
 
     Affiliate updateAffiliate(String document, Affiliate affiliate);
 
-    java.util.List<Affiliate> getAllAffiliates();
+    /**
+     * Importa afiliados en bloque. Las filas marcadas con error por el adaptador
+     * de entrada, o con documento ya existente (o repetido en el archivo), se
+     * reportan y no detienen la carga
+     */
+    AffiliateImportReport importAffiliates(List<AffiliateImportRow> rows);
+
+    CursorPage<Affiliate> getAffiliates(Affiliate.AffiliateStatus status, String cursor, int size);
 }
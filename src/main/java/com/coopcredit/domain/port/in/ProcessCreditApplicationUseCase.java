@@ -1,9 +1,16 @@
 package com.coopcredit.domain.port.in;
 
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.domain.model.CursorPage;
+import com.coopcredit.domain.model.EvaluationResult;
+import com.coopcredit.domain.model.PortfolioStatistics;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface ProcessCreditApplicationUseCase {
     /**
@@ -14,13 +21,63 @@ public interface ProcessCreditApplicationUseCase {
 
     /**
      * Evalúa una solicitud pendiente llamando al servicio de riesgo
-     * Cambia el estado a APPROVED o REJECTED según el resultado
+     * Cambia el estado a APPROVED o REJECTED según el resultado. Si otra
+     * evaluación ya la tomó, lanza ApplicationStateConflictException sin llamar
+     * al servicio de riesgo
      */
     CreditApplication evaluateApplication(Long applicationId);
 
+    /**
+     * Igual que {@link #evaluateApplication} pero sin bloquear al llamador
+     * mientras responde el servicio de riesgo. La lectura y la reserva se hacen
+     * antes de retornar (y sus errores se lanzan directamente); el futuro se
+     * completa con la solicitud decidida o con el error de la evaluación
+     */
+    CompletableFuture<CreditApplication> evaluateApplicationAsync(Long applicationId);
+
+    /**
+     * Evalúa en lote las solicitudes indicadas: carga en bloque, consulta el
+     * servicio de riesgo en paralelo y guarda las decisiones en un solo lote.
+     * Cada solicitud obtiene su propio resultado; un fallo no revierte las demás
+     */
+    List<EvaluationResult> evaluateApplications(List<Long> applicationIds);
+
+    /**
+     * Evalúa en lote hasta {@code limit} solicitudes con el estado indicado,
+     * empezando por las más antiguas
+     */
+    List<EvaluationResult> evaluateApplicationsByStatus(CreditApplication.CreditStatus status, int limit);
+
+    /**
+     * Toma de la cola hasta {@code limit} solicitudes pendientes (las más
+     * antiguas cuyo reintento ya venció, sin esperar las que otro nodo está
+     * tomando) y las evalúa como {@link #evaluateApplications}. Antes devuelve
+     * a la cola las solicitudes cuya reserva expiró. Lista vacía si no hay
+     * trabajo
+     */
+    List<EvaluationResult> evaluateNextPending(int limit);
+
     Optional<CreditApplication> getApplication(Long id);
 
-    List<CreditApplication> getAllApplications();
+    /**
+     * Lista solicitudes paginadas por cursor (más recientes primero)
+     * aplicando los filtros indicados
+     */
+    CursorPage<CreditApplication> getApplications(CreditApplicationFilter filter, String cursor, int size);
+
+    /**
+     * Estadísticas de la cartera entre los meses indicados (null para no
+     * acotar): conteos por estado, suma y promedio de montos solicitados y
+     * distribución de puntajes por nivel de riesgo, en total y por mes.
+     * Se leen de totales precalculados, sin recorrer las solicitudes
+     */
+    PortfolioStatistics getStatistics(YearMonth from, YearMonth to);
+
+    /**
+     * Exporta todas las solicitudes con id mayor a {@code afterId} (null para
+     * todas), en orden de id, entregándolas una a una al consumidor
+     */
+    void exportApplications(Long afterId, Consumer<CreditApplication> sink);
 
     /**
      * Obtiene solicitudes filtradas por estado (PENDING, APPROVED, REJECTED)
@@ -1,6 +1,8 @@
 package com.coopcredit.domain.port.out;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CursorPage;
+import java.util.List;
 import java.util.Optional;
 
 public interface AffiliateRepositoryPort {
@@ -8,5 +10,14 @@ public interface AffiliateRepositoryPort {
 
     Optional<Affiliate> findByDocument(String document);
 
-    java.util.List<Affiliate> findAll();
+    /**
+     * Inserts the affiliates set-wise, skipping documents that already exist.
+     * Returns the documents actually inserted.
+     */
+    List<String> insertAll(List<Affiliate> affiliates);
+
+    /**
+     * Keyset-paginated listing ordered by id. {@code status} may be null.
+     */
+    CursorPage<Affiliate> findPage(Affiliate.AffiliateStatus status, String cursor, int size);
 }
@@ -1,18 +1,87 @@
 package com.coopcredit.domain.port.out;
 
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.domain.model.CursorPage;
+import com.coopcredit.domain.model.PortfolioStatisticsEntry;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CreditApplicationRepositoryPort {
+    /**
+     * Inserts or updates the application. A new application is also added to
+     * the portfolio statistics, in the caller's transaction when there is one.
+     */
     CreditApplication save(CreditApplication application);
 
     Optional<CreditApplication> findById(Long id);
 
-    List<CreditApplication> findAll();
+    /**
+     * Keyset-paginated listing, newest first (application date, then id).
+     * {@code cursor} is the token returned with the previous page, or null for
+     * the first page.
+     */
+    CursorPage<CreditApplication> findPage(CreditApplicationFilter filter, String cursor, int size);
+
+    /**
+     * Streams every application with id greater than {@code afterId} (null for
+     * all), in id order, to the consumer without loading them all in memory.
+     */
+    void streamAll(Long afterId, Consumer<CreditApplication> consumer);
 
     List<CreditApplication> findByStatus(CreditApplication.CreditStatus status);
 
+    List<CreditApplication> findAllById(List<Long> ids);
+
+    List<CreditApplication> findByStatus(CreditApplication.CreditStatus status, int limit);
+
+    /**
+     * Moves the given applications from PENDING to EVALUATING in one short
+     * transaction and returns the ids that were actually claimed. Ids that were
+     * no longer PENDING are left untouched, except EVALUATING ones whose lease
+     * has expired, which are claimed again. A claim is a lease: once it expires
+     * {@link #releaseExpiredClaims} hands the application back to the queue.
+     */
+    List<Long> claimForEvaluation(List<Long> ids);
+
+    /**
+     * Claims up to {@code limit} of the oldest PENDING applications whose retry
+     * backoff has elapsed, skipping rows another node is claiming at the same
+     * time, and returns their ids.
+     */
+    List<Long> claimNextForEvaluation(int limit);
+
+    /**
+     * Returns claimed applications to PENDING, e.g. when the risk call failed.
+     * The queue picks them up again after a backoff that grows with the number
+     * of attempts.
+     */
+    void releaseClaims(List<Long> ids);
+
+    /**
+     * Releases, as {@link #releaseClaims} does, every claim whose lease has
+     * expired, and returns how many there were.
+     */
+    int releaseExpiredClaims();
+
+    /**
+     * Persists the risk decision of each application in a single JDBC batch.
+     * Only rows claimed for evaluation are updated; the returned list tells, in
+     * order, whether each decision was written. The portfolio statistics move
+     * the written decisions out of PENDING in the same transaction.
+     */
+    List<Boolean> saveDecisions(List<CreditApplication> applications);
+
+    /**
+     * Running totals by month, status, risk level and score band for the months
+     * in [from, to] (either bound null for unbounded), read from the summary kept up to date by {@link #save} and
+     * {@link #saveDecisions}. The cost depends on the number of months, not on
+     * the number of applications.
+     */
+    List<PortfolioStatisticsEntry> findStatistics(YearMonth from, YearMonth to);
+
     List<CreditApplication> findByAffiliateDocument(String document);
 }
 
@@ -0,0 +1,27 @@
+package com.coopcredit.domain.port.out;
+
+import com.coopcredit.domain.model.CreditApplication;
+
+/**
+ * Business events of the credit flow, for monitoring.
+ */
+public interface CreditMetricsPort {
+
+    /**
+     * Why registerApplication turned an application away before saving it.
+     */
+    enum RejectionReason {
+        AFFILIATE_NOT_FOUND,
+        AFFILIATE_INACTIVE,
+        INSUFFICIENT_SENIORITY,
+        DEBT_CAPACITY_EXCEEDED,
+        MAX_AMOUNT_EXCEEDED
+    }
+
+    void applicationRejected(RejectionReason reason);
+
+    /**
+     * An evaluation decision (APPROVED or REJECTED) was saved.
+     */
+    void applicationDecided(CreditApplication.CreditStatus status);
+}
@@ -0,0 +1,42 @@
+package com.coopcredit.domain.port.out;
+
+import com.coopcredit.domain.model.IdempotencyRecord;
+import com.coopcredit.domain.model.IdempotentResponse;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key records, keyed by scope (the caller) and key.
+ */
+public interface IdempotencyStorePort {
+    /**
+     * Reserves the key for a request with the given fingerprint, or returns the
+     * record of the request that already holds it. A reservation that is not
+     * completed within {@code lockTimeout} may be taken over by another request.
+     */
+    IdempotencyRecord begin(String scope, String key, String requestHash, Duration lockTimeout);
+
+    /**
+     * Waits up to {@code timeout} for the request holding the key to finish.
+     * Returns the record as last seen (still in progress if the wait timed out),
+     * or null if the key was released in the meantime.
+     */
+    IdempotencyRecord awaitCompletion(String scope, String key, Duration timeout);
+
+    /**
+     * Stores the response of the request that reserved the key, to be replayed
+     * for {@code ttl}.
+     */
+    void complete(String scope, String key, IdempotentResponse response, Duration ttl);
+
+    /**
+     * Drops a reservation whose request produced no response worth replaying,
+     * so the next retry runs it again.
+     */
+    void release(String scope, String key);
+
+    /**
+     * Deletes expired records and returns how many there were.
+     */
+    int deleteExpired();
+}
@@ -2,7 +2,23 @@ package com.coopcredit.domain.port.out;
 
 import com.coopcredit.domain.model.RiskEvaluation;
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 public interface RiskServicePort {
     RiskEvaluation evaluateRisk(String document, BigDecimal amount, Integer termMonths);
+
+    /**
+     * Same evaluation without holding the caller's thread while the risk central
+     * answers. The future may fail with the exception evaluateRisk would throw,
+     * possibly wrapped in a CompletionException. This default runs the blocking
+     * call on the caller's thread; adapters with a non-blocking client override it.
+     */
+    default CompletableFuture<RiskEvaluation> evaluateRiskAsync(String document, BigDecimal amount,
+            Integer termMonths) {
+        try {
+            return CompletableFuture.completedFuture(evaluateRisk(document, amount, termMonths));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -1,21 +1,35 @@
 package com.coopcredit.infrastructure.adapter.in.web;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateImportReport;
+import com.coopcredit.domain.model.AffiliateImportRow;
+import com.coopcredit.domain.model.CursorPage;
 import com.coopcredit.domain.port.in.ManageAffiliateUseCase;
 import com.coopcredit.infrastructure.adapter.in.web.dto.CreateAffiliateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/afiliados")
 @RequiredArgsConstructor
 public class AffiliateController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final ManageAffiliateUseCase manageAffiliateUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping
     public ResponseEntity<Affiliate> createAffiliate(@Valid @RequestBody CreateAffiliateRequest request) {
@@ -30,6 +44,24 @@ public class AffiliateController {
                 .body(created);
     }
 
+    /**
+     * Bulk import from a CSV (header: document,name,salary,affiliationDate) or
+     * NDJSON body. Rows are validated as a single create would be. Always 200
+     * with a per-row report; only a malformed CSV header or an oversized file
+     * rejects the whole request.
+     */
+    @PostMapping(value = "/importar", consumes = { "text/csv", "application/x-ndjson" })
+    public AffiliateImportReport importAffiliates(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        AffiliateImportReader reader = new AffiliateImportReader(objectMapper, validator,
+                ManageAffiliateUseCase.MAX_IMPORT_ROWS);
+        List<AffiliateImportRow> rows = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? reader.readCsv(body)
+                : reader.readNdjson(body);
+        return manageAffiliateUseCase.importAffiliates(rows);
+    }
+
     @GetMapping("/{document}")
     public ResponseEntity<Affiliate> getAffiliate(@PathVariable String document) {
         return manageAffiliateUseCase.getAffiliate(document)
@@ -54,7 +86,10 @@ public class AffiliateController {
     }
 
     @GetMapping
-    public java.util.List<Affiliate> getAllAffiliates() {
-        return manageAffiliateUseCase.getAllAffiliates();
+    public CursorPage<Affiliate> getAffiliates(
+            @RequestParam(required = false) Affiliate.AffiliateStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return manageAffiliateUseCase.getAffiliates(status, cursor, size);
     }
 }
@@ -0,0 +1,219 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateImportRow;
+import com.coopcredit.infrastructure.adapter.in.web.dto.CreateAffiliateRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parses a bulk affiliate import body (CSV with a header line, or NDJSON) into
+ * rows and checks each one against the {@link CreateAffiliateRequest} rules.
+ * Unparsable or invalid lines become rows carrying an error instead of failing
+ * the whole import. Reading stops with an error as soon as the body holds more
+ * than {@code maxRows} rows, so an oversized file is never held in memory.
+ */
+final class AffiliateImportReader {
+
+    private static final List<String> COLUMNS = List.of("document", "name", "salary", "affiliationdate");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxRows;
+
+    AffiliateImportReader(ObjectMapper objectMapper, Validator validator, int maxRows) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxRows = maxRows;
+    }
+
+    List<AffiliateImportRow> readCsv(InputStream body) throws IOException {
+        List<AffiliateImportRow> rows = new ArrayList<>();
+        try (BufferedReader reader = reader(body)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return rows;
+            }
+            List<String> headerFields = splitCsv(stripBom(header));
+            int[] positions = columnPositions(headerFields);
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = splitCsv(line);
+                if (fields.size() != headerFields.size()) {
+                    add(rows, error(lineNumber,
+                            "Expected " + headerFields.size() + " columns, found " + fields.size()));
+                    continue;
+                }
+                add(rows, parse(lineNumber, fields.get(positions[0]), fields.get(positions[1]),
+                        fields.get(positions[2]), fields.get(positions[3])));
+            }
+        }
+        return rows;
+    }
+
+    List<AffiliateImportRow> readNdjson(InputStream body) throws IOException {
+        List<AffiliateImportRow> rows = new ArrayList<>();
+        try (BufferedReader reader = reader(body)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(lineNumber == 1 ? stripBom(line) : line);
+                } catch (JsonProcessingException e) {
+                    add(rows, error(lineNumber, "Malformed JSON"));
+                    continue;
+                }
+                if (!node.isObject()) {
+                    add(rows, error(lineNumber, "Expected a JSON object"));
+                    continue;
+                }
+                add(rows, parse(lineNumber, text(node, "document"), text(node, "name"), text(node, "salary"),
+                        text(node, "affiliationDate")));
+            }
+        }
+        return rows;
+    }
+
+    private void add(List<AffiliateImportRow> rows, AffiliateImportRow row) {
+        if (rows.size() == maxRows) {
+            throw new IllegalArgumentException("An import cannot exceed " + maxRows + " rows");
+        }
+        rows.add(row.getError() == null ? validate(row) : row);
+    }
+
+    // Same rules as a single POST /api/afiliados, from the request DTO itself
+    private AffiliateImportRow validate(AffiliateImportRow row) {
+        Affiliate affiliate = row.getAffiliate();
+        CreateAffiliateRequest request = new CreateAffiliateRequest();
+        request.setDocument(affiliate.getDocument());
+        request.setName(affiliate.getName());
+        request.setSalary(affiliate.getSalary());
+        request.setAffiliationDate(affiliate.getAffiliationDate());
+
+        Set<ConstraintViolation<CreateAffiliateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return row;
+        }
+        // Field order, so a row with several problems always reports the same one first
+        String message = violations.stream()
+                .sorted(Comparator.comparingInt((ConstraintViolation<CreateAffiliateRequest> violation) ->
+                                COLUMNS.indexOf(violation.getPropertyPath().toString().toLowerCase(Locale.ROOT)))
+                        .thenComparing(ConstraintViolation::getMessage))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+        row.setError(message);
+        return row;
+    }
+
+    private static AffiliateImportRow parse(int line, String document, String name, String salary,
+            String affiliationDate) {
+        Affiliate.AffiliateBuilder affiliate = Affiliate.builder()
+                .document(trimToNull(document))
+                .name(trimToNull(name));
+        try {
+            affiliate.salary(salary == null || salary.isBlank() ? null : new BigDecimal(salary.trim()));
+        } catch (NumberFormatException e) {
+            return error(line, "Invalid salary: " + salary);
+        }
+        try {
+            affiliate.affiliationDate(affiliationDate == null || affiliationDate.isBlank()
+                    ? null
+                    : LocalDate.parse(affiliationDate.trim()));
+        } catch (DateTimeParseException e) {
+            return error(line, "Invalid affiliationDate (expected yyyy-MM-dd): " + affiliationDate);
+        }
+        return AffiliateImportRow.builder().line(line).affiliate(affiliate.build()).build();
+    }
+
+    private static int[] columnPositions(List<String> header) {
+        List<String> names = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        int[] positions = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = names.indexOf(COLUMNS.get(i));
+            if (positions[i] < 0) {
+                throw new IllegalArgumentException(
+                        "CSV header must contain the columns document,name,salary,affiliationDate");
+            }
+        }
+        return positions;
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static AffiliateImportRow error(int line, String message) {
+        return AffiliateImportRow.builder().line(line).error(message).build();
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024);
+    }
+}
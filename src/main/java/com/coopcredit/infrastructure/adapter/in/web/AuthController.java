@@ -1,17 +1,18 @@
 package com.coopcredit.infrastructure.adapter.in.web;
 
+import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.coopcredit.infrastructure.configuration.security.AccountUserDetails;
 import com.coopcredit.infrastructure.configuration.security.JwtService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -28,9 +29,9 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final SpringDataUserRepository userRepository;
     private final SpringDataAffiliateRepository affiliateRepository;
+    private final AffiliateRepositoryPort affiliateRepositoryPort;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
@@ -48,7 +49,9 @@ public class AuthController {
                     ? request.getAffiliateDocument()
                     : request.getUsername();
 
-            linkedAffiliate = affiliateRepository.findByDocument(affiliateDoc)
+            // Cached lookup through the port; the entity is only a reference for the foreign key
+            linkedAffiliate = affiliateRepositoryPort.findByDocument(affiliateDoc)
+                    .map(affiliate -> affiliateRepository.getReferenceById(affiliate.getId()))
                     .orElse(null);
 
             if (linkedAffiliate == null) {
@@ -72,19 +75,23 @@ public class AuthController {
         response.put("message", "User registered successfully");
         response.put("role", role);
         if (linkedAffiliate != null) {
-            response.put("linkedAffiliate", linkedAffiliate.getDocument());
+            response.put("linkedAffiliate", request.getAffiliateDocument() != null
+                    ? request.getAffiliateDocument()
+                    : request.getUsername());
         }
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getUsername(),
                         request.getPassword()));
-        final UserDetails user = userDetailsService.loadUserByUsername(request.getUsername());
-        final String jwt = jwtService.generateToken(user);
+        // The principal is the user loaded to check the password: no second lookup for the token
+        final AccountUserDetails user = (AccountUserDetails) authentication.getPrincipal();
+        // Role and linked affiliate travel in the token so requests never reload the user
+        final String jwt = jwtService.generateToken(user.getUsername(), user.getRole(), user.getAffiliateDocument());
         return ResponseEntity.ok(Map.of("token", jwt));
     }
 
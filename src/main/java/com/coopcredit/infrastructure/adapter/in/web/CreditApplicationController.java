@@ -1,18 +1,40 @@
 package com.coopcredit.infrastructure.adapter.in.web;
 
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.domain.model.CursorPage;
+import com.coopcredit.domain.model.EvaluationResult;
+import com.coopcredit.domain.model.PortfolioStatistics;
 import com.coopcredit.domain.port.in.ProcessCreditApplicationUseCase;
+import com.coopcredit.infrastructure.adapter.in.web.dto.BatchEvaluationRequest;
 import com.coopcredit.infrastructure.adapter.in.web.dto.CreateCreditApplicationRequest;
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.coopcredit.infrastructure.configuration.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/solicitudes")
@@ -21,17 +43,28 @@ public class CreditApplicationController {
 
     private final ProcessCreditApplicationUseCase processCreditApplicationUseCase;
     private final SpringDataUserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    // What POST /{id}/evaluar answers when the risk central is unavailable
+    @Value("${risk.circuit-breaker.fallback:FAIL_FAST}")
+    private RiskFallback riskFallback;
+
+    enum RiskFallback {
+        // 503 with Retry-After
+        FAIL_FAST,
+        // 202 with the application, still PENDING, and Retry-After
+        PENDING
+    }
 
     @PostMapping
     public ResponseEntity<CreditApplication> createApplication(
             @Valid @RequestBody CreateCreditApplicationRequest request) {
 
-        // Get authenticated user
+        // Get authenticated user (built from the token claims)
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
 
         // Get affiliate document - either from user's linked affiliate or from request
-        String affiliateDocument = resolveAffiliateDocument(username, request.getAffiliateDocument());
+        String affiliateDocument = resolveAffiliateDocument(auth, request.getAffiliateDocument());
 
         CreditApplication application = CreditApplication.builder()
                 .requestedAmount(request.getAmount())
@@ -50,17 +83,18 @@ public class CreditApplicationController {
      * For ROLE_ADMIN/ROLE_ANALISTA: Uses the document from request (for creating on
      * behalf of)
      */
-    private String resolveAffiliateDocument(String username, String requestDocument) {
-        UserEntity user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    private String resolveAffiliateDocument(Authentication auth, String requestDocument) {
+        AuthenticatedUser user = auth.getPrincipal() instanceof AuthenticatedUser principal
+                ? principal
+                : loadUser(auth.getName());
 
         // If user has a linked affiliate, use that document
-        if (user.getAffiliate() != null) {
-            return user.getAffiliate().getDocument();
+        if (user.affiliateDocument() != null) {
+            return user.affiliateDocument();
         }
 
         // If user is AFILIADO but not linked, reject
-        if ("ROLE_AFILIADO".equals(user.getRole())) {
+        if ("ROLE_AFILIADO".equals(user.role())) {
             throw new IllegalArgumentException(
                     "Your account is not linked to an affiliate. Please contact the administrator.");
         }
@@ -73,6 +107,14 @@ public class CreditApplicationController {
         return requestDocument;
     }
 
+    // Only for tokens issued without role/affiliate claims
+    private AuthenticatedUser loadUser(String username) {
+        UserEntity user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return new AuthenticatedUser(user.getUsername(), user.getRole(),
+                user.getAffiliate() != null ? user.getAffiliate().getDocument() : null);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CreditApplication> getApplication(@PathVariable Long id) {
         return processCreditApplicationUseCase.getApplication(id)
@@ -80,15 +122,158 @@ public class CreditApplicationController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Keyset-paginated listing, newest first. Pass the returned
+     * {@code nextCursor} back as {@code cursor} to get the following page.
+     */
     @GetMapping
-    public java.util.List<CreditApplication> getAllApplications() {
-        return processCreditApplicationUseCase.getAllApplications();
+    public CursorPage<CreditApplication> getApplications(
+            @RequestParam(required = false) CreditApplication.CreditStatus status,
+            @RequestParam(required = false) String affiliateDocument,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CreditApplicationFilter filter = CreditApplicationFilter.builder()
+                .status(status)
+                .affiliateDocument(affiliateDocument)
+                .from(from)
+                .to(to)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .build();
+        return processCreditApplicationUseCase.getApplications(filter, cursor, size);
+    }
+
+    /**
+     * Portfolio statistics for the months in [from, to] (yyyy-MM, both optional):
+     * the range total and one summary per month. Served from running totals, so
+     * the cost does not grow with the number of applications.
+     */
+    @GetMapping("/estadisticas")
+    public PortfolioStatistics getStatistics(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return processCreditApplicationUseCase.getStatistics(from, to);
+    }
+
+    /**
+     * Full export of applications and decisions, streamed from a database cursor
+     * as NDJSON or CSV. Gzip-compressed when the client accepts it. An interrupted
+     * download resumes with {@code afterId} = last id received, since rows are
+     * written in id order.
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CreditApplicationExportWriter.Format exportFormat = CreditApplicationExportWriter.Format.of(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 64 * 1024) : null;
+            CreditApplicationExportWriter writer = new CreditApplicationExportWriter(exportFormat,
+                    gzipOut != null ? gzipOut : out, objectMapper.getFactory());
+            processCreditApplicationUseCase.exportApplications(afterId, writer::write);
+            writer.flush();
+            if (gzipOut != null) {
+                gzipOut.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("solicitudes." + exportFormat.extension()).build().toString())
+                // Length is unknown up front, so byte ranges cannot be honoured; resume by afterId instead
+                .header(HttpHeaders.ACCEPT_RANGES, "none")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Whether Accept-Encoding gives gzip a q-value above 0, either by name or
+     * through {@code *} when gzip is not listed. A missing header or one that
+     * only lists other codings, such as {@code identity}, means no compression.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        // A malformed weight is not an acceptance
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
     }
 
+    /**
+     * Answered asynchronously: the request thread goes back to the pool while the
+     * risk central is thinking, and the response is written when the evaluation
+     * completes.
+     */
     @PostMapping("/{id}/evaluar")
-    public ResponseEntity<CreditApplication> evaluateApplication(@PathVariable Long id) {
-        CreditApplication evaluated = processCreditApplicationUseCase.evaluateApplication(id);
-        return ResponseEntity.ok(evaluated);
+    public CompletableFuture<ResponseEntity<CreditApplication>> evaluateApplication(@PathVariable Long id) {
+        return processCreditApplicationUseCase.evaluateApplicationAsync(id)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (riskFallback != RiskFallback.PENDING
+                            || !(cause instanceof RiskServiceUnavailableException unavailable)) {
+                        throw error instanceof CompletionException completion
+                                ? completion : new CompletionException(error);
+                    }
+                    ResponseEntity.BodyBuilder accepted = ResponseEntity.status(HttpStatus.ACCEPTED);
+                    if (unavailable.getRetryAfter() != null) {
+                        accepted.header(HttpHeaders.RETRY_AFTER,
+                                String.valueOf(Math.max(1, unavailable.getRetryAfter().toSeconds())));
+                    }
+                    return accepted.body(processCreditApplicationUseCase.getApplication(id).orElseThrow());
+                });
+    }
+
+    /**
+     * Batch evaluation: by explicit ids, or the oldest {@code limit} pending
+     * applications. Always 200; each item carries its own outcome.
+     */
+    @PostMapping("/evaluar-lote")
+    public ResponseEntity<java.util.List<EvaluationResult>> evaluateApplications(
+            @Valid @RequestBody BatchEvaluationRequest request) {
+        java.util.List<EvaluationResult> results;
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            results = processCreditApplicationUseCase.evaluateApplications(request.getIds());
+        } else {
+            results = processCreditApplicationUseCase.evaluateApplicationsByStatus(
+                    CreditApplication.CreditStatus.valueOf(request.getStatus()), request.getLimit());
+        }
+        return ResponseEntity.ok(results);
     }
 
     @GetMapping("/pendientes")
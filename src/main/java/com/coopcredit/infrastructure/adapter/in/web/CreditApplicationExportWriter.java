@@ -0,0 +1,161 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes exported applications one row at a time as NDJSON or CSV. Rows are
+ * flat (affiliate and risk fields inlined) and nothing is retained between
+ * rows, so memory stays constant whatever the export size.
+ */
+class CreditApplicationExportWriter {
+
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        String contentType() {
+            return contentType;
+        }
+
+        String extension() {
+            return extension;
+        }
+
+        static Format of(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported export format: " + value));
+        }
+    }
+
+    private static final String[] COLUMNS = {
+            "id", "affiliateDocument", "affiliateName", "requestedAmount", "termMonths", "proposedRate",
+            "applicationDate", "status", "riskScore", "riskLevel", "decisionReason", "evaluationDate"
+    };
+
+    private final Format format;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    CreditApplicationExportWriter(Format format, OutputStream out, JsonFactory jsonFactory) throws IOException {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.NDJSON) {
+            this.json = jsonFactory.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        } else {
+            this.json = null;
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Writes one row. I/O errors (typically the client going away) are rethrown
+     * unchecked so they abort the database cursor as well.
+     */
+    void write(CreditApplication application) {
+        try {
+            Map<String, Object> row = toRow(application);
+            if (format == Format.NDJSON) {
+                writeJson(row);
+            } else {
+                writeCsv(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    private Map<String, Object> toRow(CreditApplication application) {
+        RiskEvaluation risk = application.getRiskEvaluation();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", application.getId());
+        row.put("affiliateDocument", application.getAffiliate().getDocument());
+        row.put("affiliateName", application.getAffiliate().getName());
+        row.put("requestedAmount", application.getRequestedAmount());
+        row.put("termMonths", application.getTermMonths());
+        row.put("proposedRate", application.getProposedRate());
+        row.put("applicationDate", application.getApplicationDate());
+        row.put("status", application.getStatus());
+        row.put("riskScore", risk != null ? risk.getScore() : null);
+        row.put("riskLevel", risk != null ? risk.getRiskLevel() : null);
+        row.put("decisionReason", risk != null ? risk.getDecisionReason() : null);
+        row.put("evaluationDate", risk != null ? risk.getEvaluationDate() : null);
+        return row;
+    }
+
+    private void writeJson(Map<String, Object> row) throws IOException {
+        json.writeStartObject();
+        for (Map.Entry<String, Object> field : row.entrySet()) {
+            Object value = field.getValue();
+            json.writeFieldName(field.getKey());
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof BigDecimal number) {
+                json.writeNumber(number);
+            } else if (value instanceof Number number) {
+                json.writeNumber(number.longValue());
+            } else {
+                json.writeString(value.toString());
+            }
+        }
+        json.writeEndObject();
+        json.flush();
+        writer.write('\n');
+    }
+
+    private void writeCsv(Map<String, Object> row) throws IOException {
+        boolean first = true;
+        for (Object value : row.values()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            if (value != null) {
+                writer.write(csvField(value instanceof BigDecimal number ? number.toPlainString() : value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks; double inner quotes
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
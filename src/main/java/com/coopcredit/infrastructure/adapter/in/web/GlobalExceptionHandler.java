@@ -1,8 +1,13 @@
 package com.coopcredit.infrastructure.adapter.in.web;
 
+import com.coopcredit.domain.exception.ApplicationStateConflictException;
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -58,6 +63,36 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(ApplicationStateConflictException.class)
+    public ProblemDetail handleStateConflict(ApplicationStateConflictException ex, HttpServletRequest request) {
+        log.warn("State Conflict: {}", ex.getMessage());
+        return conflict(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLock(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Optimistic Lock Failure: {}", ex.getMessage());
+        return conflict("El recurso fue modificado por otra operación. Consúltelo de nuevo antes de reintentar.",
+                request);
+    }
+
+    @ExceptionHandler(RiskServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleRiskServiceUnavailable(RiskServiceUnavailableException ex,
+            HttpServletRequest request) {
+        log.warn("Risk Service Unavailable: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problem.setType(URI.create("https://coopcredit.com/errors/risk-service-unavailable"));
+        problem.setTitle("Central de Riesgo No Disponible");
+        problem.setDetail("La central de riesgo no está disponible. La solicitud sigue PENDIENTE; intente evaluarla más tarde.");
+        addStandardProperties(problem, request);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (ex.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return response.body(problem);
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ProblemDetail handleNotFound(NoSuchElementException ex, HttpServletRequest request) {
         log.warn("Resource Not Found: {}", ex.getMessage());
@@ -80,6 +115,15 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    private ProblemDetail conflict(String detail, HttpServletRequest request) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problem.setType(URI.create("https://coopcredit.com/errors/conflict"));
+        problem.setTitle("Conflicto de Estado");
+        problem.setDetail(detail);
+        addStandardProperties(problem, request);
+        return problem;
+    }
+
     /**
      * Adds standard properties required by the spec: timestamp, traceId, instance
      */
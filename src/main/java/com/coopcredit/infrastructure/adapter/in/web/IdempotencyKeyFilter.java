@@ -0,0 +1,379 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.IdempotencyRecord;
+import com.coopcredit.domain.model.IdempotentResponse;
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key support for POST /api/solicitudes and
+ * POST /api/solicitudes/{id}/evaluar. The first request with a key runs and its
+ * response is stored; a retry with the same key, path and body gets that
+ * response back (marked Idempotent-Replayed) without running again. A retry
+ * that arrives while the first request is still running waits for it, up to
+ * {@code waitTimeout}, then gets 409. Reusing a key for a different request is
+ * a 422. Keys are scoped to the authenticated user.
+ *
+ * <p>Responses that tell the client to try again (5xx, 408, 409, 425, 429, or
+ * any with Retry-After, such as the 202 of an evaluation left PENDING) are not
+ * stored: the key is released and the next retry runs the request again.
+ *
+ * <p>For asynchronous handlers such as the evaluation, the response only exists
+ * after the async dispatch, so that is where it is stored or the key released.
+ *
+ * <p>The body is held in memory to fingerprint it, so bodies larger than
+ * {@code maxBodySize} are answered 413 before any key is reserved.
+ */
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Pattern IDEMPOTENT_PATHS = Pattern.compile("/api/solicitudes(/\\d+/evaluar)?");
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 409, 425, 429);
+    // Scope and key of a request whose handler went async, kept until its async dispatch
+    private static final String PENDING_KEY_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".PENDING_KEY";
+
+    private final IdempotencyStorePort store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Duration waitTimeout;
+    private final long maxBodySize;
+
+    public IdempotencyKeyFilter(IdempotencyStorePort store, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            Duration ttl, Duration lockTimeout, Duration waitTimeout, long maxBodySize) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.waitTimeout = waitTimeout;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !IDEMPOTENT_PATHS.matcher(path(request)).matches();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            completeAsync(request, response, filterChain);
+            return;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            // Security has already turned these away; nothing to scope the key to
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeProblem(request, response, HttpStatus.BAD_REQUEST, "invalid",
+                    "Idempotency-Key Inválido",
+                    "El encabezado Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres.");
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            count("too-large");
+            writeProblem(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "too-large",
+                    "Cuerpo Demasiado Grande",
+                    "Las solicitudes con Idempotency-Key admiten un cuerpo de hasta " + maxBodySize + " bytes.");
+            return;
+        }
+        String requestHash = fingerprint(request, body);
+        String scope = authentication.getName();
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        IdempotencyRecord record = store.begin(scope, key, requestHash, lockTimeout);
+        while (!record.isAcquired() && !record.isCompleted() && requestHash.equals(record.getRequestHash())) {
+            // Same request still running, here or on another node
+            long remaining = deadline - System.nanoTime();
+            IdempotencyRecord awaited = remaining > 0
+                    ? store.awaitCompletion(scope, key, Duration.ofNanos(remaining))
+                    : record;
+            if (awaited == null) {
+                // Released without a response: this retry runs it
+                record = store.begin(scope, key, requestHash, lockTimeout);
+            } else if (awaited.isCompleted()) {
+                record = awaited;
+            } else {
+                count("in-progress");
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeProblem(request, response, HttpStatus.CONFLICT, "in-progress",
+                        "Solicitud en Curso",
+                        "Una solicitud con el mismo Idempotency-Key aún se está procesando; reintente en unos segundos.");
+                return;
+            }
+        }
+
+        if (!record.isAcquired() && !requestHash.equals(record.getRequestHash())) {
+            count("mismatch");
+            writeProblem(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "mismatch",
+                    "Idempotency-Key Reutilizado",
+                    "El Idempotency-Key ya se usó para una solicitud distinta.");
+        } else if (record.isCompleted()) {
+            count("replayed");
+            replay(record.getResponse(), response);
+        } else {
+            count("executed");
+            execute(new CachedBodyRequest(request, body), response, filterChain, scope, key);
+        }
+    }
+
+    /**
+     * Reads at most one byte past the limit, so an oversized body is detected
+     * without buffering it; null when the body is too large.
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodySize) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodySize + 1, Integer.MAX_VALUE));
+        return body.length > maxBodySize ? null : body;
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+            String scope, String key) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            release(scope, key);
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            // The async dispatch writes into the same wrapper
+            request.setAttribute(PENDING_KEY_ATTRIBUTE, new PendingKey(scope, key));
+            return;
+        }
+        finish(wrapper, scope, key);
+    }
+
+    private void completeAsync(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PendingKey pending = (PendingKey) request.getAttribute(PENDING_KEY_ATTRIBUTE);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (pending != null) {
+                request.removeAttribute(PENDING_KEY_ATTRIBUTE);
+                release(pending.scope(), pending.key());
+            }
+            throw e;
+        }
+
+        ContentCachingResponseWrapper wrapper =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (pending == null || wrapper == null || request.isAsyncStarted()) {
+            return;
+        }
+        request.removeAttribute(PENDING_KEY_ATTRIBUTE);
+        finish(wrapper, pending.scope(), pending.key());
+    }
+
+    private void finish(ContentCachingResponseWrapper wrapper, String scope, String key) throws IOException {
+        if (isReplayable(wrapper)) {
+            try {
+                store.complete(scope, key, IdempotentResponse.builder()
+                        .status(wrapper.getStatus())
+                        .contentType(wrapper.getContentType())
+                        .location(wrapper.getHeader(HttpHeaders.LOCATION))
+                        .body(wrapper.getContentAsByteArray())
+                        .build(), ttl);
+            } catch (RuntimeException e) {
+                // The request itself succeeded; a retry will just run it again
+                log.warn("Could not store the response for Idempotency-Key {}: {}", key, e.getMessage());
+                release(scope, key);
+            }
+        } else {
+            release(scope, key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void release(String scope, String key) {
+        try {
+            store.release(scope, key);
+        } catch (RuntimeException e) {
+            // The reservation expires after lockTimeout anyway
+            log.warn("Could not release Idempotency-Key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static boolean isReplayable(HttpServletResponse response) {
+        int status = response.getStatus();
+        return status < 500
+                && !RETRYABLE_STATUSES.contains(status)
+                && response.getHeader(HttpHeaders.RETRY_AFTER) == null;
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.getLocation());
+        }
+        byte[] body = stored.getBody() != null ? stored.getBody() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeProblem(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+            String type, String title, String detail) throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setType(URI.create("https://coopcredit.com/errors/idempotency-key-" + type));
+        problem.setTitle(title);
+        problem.setDetail(detail);
+        problem.setInstance(URI.create(request.getRequestURI()));
+        problem.setProperty("timestamp", Instant.now().toString());
+        problem.setProperty("traceId", UUID.randomUUID().toString());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private void count(String result) {
+        Counter.builder("idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by how they were served")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // Method, path and body: the same key sent with anything else is a different request
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + path(request) + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record PendingKey(String scope, String key) {
+    }
+
+    /**
+     * Serves the body already read for the fingerprint to the rest of the chain.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory: it is available, then fully read, at once
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : "UTF-8";
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
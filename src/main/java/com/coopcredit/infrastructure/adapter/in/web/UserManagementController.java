@@ -1,7 +1,9 @@
 package com.coopcredit.infrastructure.adapter.in.web;
 
-import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.UserSummaryRow;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
 import lombok.Data;
@@ -23,13 +25,14 @@ public class UserManagementController {
 
     private final SpringDataUserRepository userRepository;
     private final SpringDataAffiliateRepository affiliateRepository;
+    private final AffiliateRepositoryPort affiliateRepositoryPort;
 
     /**
      * List all users with their affiliate links
      */
     @GetMapping
     public List<UserSummary> getAllUsers() {
-        return userRepository.findAll().stream()
+        return userRepository.findAllSummaries().stream()
                 .map(this::toSummary)
                 .collect(Collectors.toList());
     }
@@ -46,11 +49,12 @@ public class UserManagementController {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
-        AffiliateEntity affiliate = affiliateRepository.findByDocument(request.getAffiliateDocument())
+        Affiliate affiliate = affiliateRepositoryPort.findByDocument(request.getAffiliateDocument())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Afiliado no encontrado con documento: " + request.getAffiliateDocument()));
 
-        user.setAffiliate(affiliate);
+        // Reference only: the foreign key is all the link needs
+        user.setAffiliate(affiliateRepository.getReferenceById(affiliate.getId()));
         userRepository.save(user);
 
         return ResponseEntity.ok(Map.of(
@@ -74,15 +78,13 @@ public class UserManagementController {
         return ResponseEntity.ok(Map.of("message", "Usuario desvinculado del afiliado"));
     }
 
-    private UserSummary toSummary(UserEntity user) {
+    private UserSummary toSummary(UserSummaryRow user) {
         UserSummary summary = new UserSummary();
-        summary.setId(user.getId());
-        summary.setUsername(user.getUsername());
-        summary.setRole(user.getRole());
-        if (user.getAffiliate() != null) {
-            summary.setAffiliateDocument(user.getAffiliate().getDocument());
-            summary.setAffiliateName(user.getAffiliate().getName());
-        }
+        summary.setId(user.id());
+        summary.setUsername(user.username());
+        summary.setRole(user.role());
+        summary.setAffiliateDocument(user.affiliateDocument());
+        summary.setAffiliateName(user.affiliateName());
         return summary;
     }
 
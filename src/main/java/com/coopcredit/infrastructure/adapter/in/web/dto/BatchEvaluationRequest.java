@@ -0,0 +1,21 @@
+package com.coopcredit.infrastructure.adapter.in.web.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BatchEvaluationRequest {
+
+    // Optional: explicit ids to evaluate. When empty, the status filter is used
+    @Size(max = 500, message = "Maximum 500 applications per batch")
+    private List<@NotNull Long> ids;
+
+    // Only PENDING applications can be evaluated; any other status would only yield SKIPPED rows
+    @Pattern(regexp = "PENDING", message = "Status must be PENDING")
+    private String status = "PENDING";
+
+    @Min(value = 1, message = "Minimum limit is 1")
+    @Max(value = 500, message = "Maximum limit is 500")
+    private Integer limit = 100;
+}
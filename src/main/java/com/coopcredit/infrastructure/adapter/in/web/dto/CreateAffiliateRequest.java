@@ -18,6 +18,7 @@ public class CreateAffiliateRequest {
 
     @NotNull(message = "Salario es requerido")
     @Positive(message = "Salario debe ser mayor a 0")
+    @Digits(integer = 17, fraction = 2, message = "Salario admite hasta 17 enteros y 2 decimales")
     private BigDecimal salary;
 
     @NotNull(message = "Fecha de afiliación es requerida")
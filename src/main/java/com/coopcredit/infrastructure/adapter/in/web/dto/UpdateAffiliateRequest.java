@@ -13,6 +13,7 @@ public class UpdateAffiliateRequest {
 
     @NotNull(message = "Salario es requerido")
     @Positive(message = "Salario debe ser mayor a 0")
+    @Digits(integer = 17, fraction = 2, message = "Salario admite hasta 17 enteros y 2 decimales")
     private BigDecimal salary;
 
     @NotBlank(message = "Estado es requerido")
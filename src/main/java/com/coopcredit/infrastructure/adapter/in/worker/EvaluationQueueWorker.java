@@ -0,0 +1,113 @@
+package com.coopcredit.infrastructure.adapter.in.worker;
+
+import com.coopcredit.domain.model.EvaluationResult;
+import com.coopcredit.domain.port.in.ProcessCreditApplicationUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the PENDING queue in the background: each worker thread repeatedly
+ * claims a chunk of applications and evaluates it. Claims skip rows taken by
+ * other threads or nodes, so every replica running workers adds throughput.
+ * When a chunk comes back short the queue is (nearly) empty and the thread
+ * waits about {@code idleDelay} before polling again.
+ */
+@Slf4j
+public class EvaluationQueueWorker implements SmartLifecycle {
+
+    private final ProcessCreditApplicationUseCase processCreditApplicationUseCase;
+    private final int threads;
+    private final int chunkSize;
+    private final Duration idleDelay;
+    private final Duration shutdownTimeout;
+
+    private final List<Thread> workers = new ArrayList<>();
+    // Counted down on stop() to wake idle threads
+    private volatile CountDownLatch stopSignal = new CountDownLatch(0);
+
+    public EvaluationQueueWorker(ProcessCreditApplicationUseCase processCreditApplicationUseCase, int threads,
+            int chunkSize, Duration idleDelay, Duration shutdownTimeout) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Worker threads and chunk size must be at least 1");
+        }
+        this.processCreditApplicationUseCase = processCreditApplicationUseCase;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.idleDelay = idleDelay;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        stopSignal = new CountDownLatch(1);
+        for (int i = 1; i <= threads; i++) {
+            Thread worker = new Thread(this::run, "evaluation-worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Evaluation queue worker started: {} threads, chunks of {}", threads, chunkSize);
+    }
+
+    /**
+     * Lets every thread finish its current chunk. Claims still open after the
+     * timeout are recovered by another node once their lease expires.
+     */
+    @Override
+    public synchronized void stop() {
+        stopSignal.countDown();
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stopSignal.getCount() > 0;
+    }
+
+    private void run() {
+        CountDownLatch stop = stopSignal;
+        while (stop.getCount() > 0) {
+            boolean idle;
+            try {
+                List<EvaluationResult> results = processCreditApplicationUseCase.evaluateNextPending(chunkSize);
+                idle = results.size() < chunkSize;
+            } catch (RuntimeException e) {
+                log.warn("Evaluation queue poll failed: {}", e.getMessage());
+                idle = true;
+            }
+            if (idle && !pause(stop)) {
+                return;
+            }
+        }
+    }
+
+    // Jittered so the threads of all nodes do not poll in lockstep; false once stopped
+    private boolean pause(CountDownLatch stop) {
+        long millis = idleDelay.toMillis();
+        long jittered = millis / 2 + ThreadLocalRandom.current().nextLong(millis + 1);
+        try {
+            return !stop.await(jittered, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.coopcredit.infrastructure.adapter.in.worker;
+
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes expired Idempotency-Key records every {@code interval}. Each node
+ * runs its own; the delete is idempotent, and the first delay is randomized so
+ * the nodes do not all purge at once.
+ */
+@Slf4j
+public class IdempotencyKeyCleaner implements SmartLifecycle {
+
+    private final IdempotencyStorePort store;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+
+    public IdempotencyKeyCleaner(IdempotencyStorePort store, Duration interval) {
+        this.store = store;
+        this.interval = interval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-key-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::purge, ThreadLocalRandom.current().nextLong(period + 1), period,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    void purge() {
+        try {
+            int deleted = store.deleteExpired();
+            if (deleted > 0) {
+                log.debug("Deleted {} expired Idempotency-Key records", deleted);
+            }
+        } catch (RuntimeException e) {
+            // A failed run must not cancel the schedule
+            log.warn("Idempotency-Key cleanup failed: {}", e.getMessage());
+        }
+    }
+}
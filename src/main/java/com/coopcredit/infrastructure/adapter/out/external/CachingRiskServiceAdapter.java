@@ -0,0 +1,112 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * RiskServicePort decorator that remembers recent evaluations for the same
+ * (document, amount bucket, term). Concurrent identical requests share one
+ * remote call; failures are never cached.
+ */
+public class CachingRiskServiceAdapter implements RiskServicePort {
+
+    private final RiskServicePort delegate;
+    private final BigDecimal amountBucket;
+    private final AsyncCache<RiskKey, RiskEvaluation> cache;
+
+    public CachingRiskServiceAdapter(RiskServicePort delegate, long maximumSize, Duration ttl,
+            BigDecimal amountBucket) {
+        this(delegate, maximumSize, ttl, amountBucket, Ticker.systemTicker());
+    }
+
+    CachingRiskServiceAdapter(RiskServicePort delegate, long maximumSize, Duration ttl, BigDecimal amountBucket,
+            Ticker ticker) {
+        this.delegate = delegate;
+        this.amountBucket = amountBucket;
+        // Async cache: the map only holds a future while the remote call runs on the caller's thread,
+        // so a slow call never blocks lookups of other keys
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public RiskEvaluation evaluateRisk(String document, BigDecimal amount, Integer termMonths) {
+        RiskKey key = new RiskKey(document, bucket(amount), termMonths);
+        CompletableFuture<RiskEvaluation> call = new CompletableFuture<>();
+        CompletableFuture<RiskEvaluation> result = cache.get(key, (k, executor) -> call);
+
+        if (result == call) {
+            try {
+                call.complete(delegate.evaluateRisk(document, amount, termMonths));
+            } catch (RuntimeException e) {
+                // Failed futures are dropped from an async cache, so the next attempt calls again
+                call.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return copyOf(result.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A miss stores the delegate's future itself, so identical calls share it
+     * whether they come through here or through evaluateRisk.
+     */
+    @Override
+    public CompletableFuture<RiskEvaluation> evaluateRiskAsync(String document, BigDecimal amount,
+            Integer termMonths) {
+        RiskKey key = new RiskKey(document, bucket(amount), termMonths);
+        return cache.get(key, (k, executor) -> delegate.evaluateRiskAsync(document, amount, termMonths))
+                .thenApply(this::copyOf);
+    }
+
+    /**
+     * Synchronous view of the cache, used to bind its statistics to Micrometer.
+     */
+    public Cache<RiskKey, RiskEvaluation> getCache() {
+        return cache.synchronous();
+    }
+
+    private BigDecimal bucket(BigDecimal amount) {
+        if (amountBucket == null || amountBucket.signum() <= 0) {
+            // Exact amounts: strip the scale so 100000 and 100000.00 share an entry
+            return amount.stripTrailingZeros();
+        }
+        return amount.divide(amountBucket, 0, RoundingMode.FLOOR).multiply(amountBucket).stripTrailingZeros();
+    }
+
+    // Callers mutate the returned evaluation, so every caller gets its own copy stamped with its own date
+    private RiskEvaluation copyOf(RiskEvaluation cached) {
+        return RiskEvaluation.builder()
+                .score(cached.getScore())
+                .riskLevel(cached.getRiskLevel())
+                .decisionReason(cached.getDecisionReason())
+                .evaluationDate(LocalDateTime.now())
+                .build();
+    }
+
+    public record RiskKey(String document, BigDecimal amount, Integer termMonths) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * RiskServicePort decorator that stops calling the risk central once too many
+ * calls fail or are slow. While the breaker is open calls are rejected
+ * immediately; after the configured wait a few probe calls decide whether it
+ * closes again.
+ */
+public class CircuitBreakerRiskServiceAdapter implements RiskServicePort {
+
+    private final RiskServicePort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration openWait;
+
+    public CircuitBreakerRiskServiceAdapter(RiskServicePort delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.openWait = Duration.ofMillis(
+                circuitBreaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1));
+    }
+
+    @Override
+    public RiskEvaluation evaluateRisk(String document, BigDecimal amount, Integer termMonths) {
+        try {
+            return circuitBreaker.executeSupplier(() -> delegate.evaluateRisk(document, amount, termMonths));
+        } catch (CallNotPermittedException e) {
+            throw new RiskServiceUnavailableException(
+                    "Risk service is temporarily unavailable, evaluation was not attempted", openWait, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<RiskEvaluation> evaluateRiskAsync(String document, BigDecimal amount,
+            Integer termMonths) {
+        CompletableFuture<RiskEvaluation> result = new CompletableFuture<>();
+        // The call is measured until the future completes, so slow answers still count as slow calls
+        circuitBreaker.executeCompletionStage(() -> delegate.evaluateRiskAsync(document, amount, termMonths))
+                .whenComplete((evaluation, error) -> {
+                    if (error == null) {
+                        result.complete(evaluation);
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    result.completeExceptionally(cause instanceof CallNotPermittedException notPermitted
+                            ? new RiskServiceUnavailableException(
+                                    "Risk service is temporarily unavailable, evaluation was not attempted",
+                                    openWait, notPermitted)
+                            : cause);
+                });
+        return result;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,277 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * RiskServicePort decorator that sends a second, identical request when the
+ * first one is slower than a percentile of recent call latencies, and returns
+ * whichever answers first. The risk central is deterministic and read-only, so
+ * duplicate calls are harmless. Hedges in flight are capped by a budget so a
+ * slow risk central never sees more than that much extra load.
+ */
+public class HedgingRiskServiceAdapter implements RiskServicePort {
+
+    // Below this many samples the latency distribution is unknown and no hedge is sent
+    static final int MIN_SAMPLES = 20;
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RiskServicePort delegate;
+    private final Executor executor;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final Semaphore budget;
+    private final LatencyWindow latencies;
+    private final LongSupplier nanoTime;
+
+    private final Counter calls;
+    private final Counter hedgesSent;
+    private final Counter hedgesRejected;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+
+    private volatile long hedgeDelayNanos = -1;
+    private volatile long delayComputedAt;
+
+    public HedgingRiskServiceAdapter(RiskServicePort delegate, Executor executor, double percentile,
+            Duration minDelay, int maxHedgesInFlight, int windowSize, MeterRegistry meterRegistry) {
+        this(delegate, executor, percentile, minDelay, maxHedgesInFlight, windowSize, meterRegistry,
+                System::nanoTime);
+    }
+
+    HedgingRiskServiceAdapter(RiskServicePort delegate, Executor executor, double percentile, Duration minDelay,
+            int maxHedgesInFlight, int windowSize, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.budget = new Semaphore(maxHedgesInFlight);
+        this.latencies = new LatencyWindow(windowSize);
+        this.nanoTime = nanoTime;
+
+        // Hedge rate = hedges{result=sent} / calls; hedge win rate = wins{winner=hedge} / hedges{result=sent}
+        this.calls = meterRegistry.counter("risk.hedging.calls");
+        this.hedgesSent = meterRegistry.counter("risk.hedging.hedges", "result", "sent");
+        this.hedgesRejected = meterRegistry.counter("risk.hedging.hedges", "result", "over_budget");
+        this.primaryWins = meterRegistry.counter("risk.hedging.wins", "winner", "primary");
+        this.hedgeWins = meterRegistry.counter("risk.hedging.wins", "winner", "hedge");
+        Gauge.builder("risk.hedging.delay", this, adapter -> Math.max(adapter.hedgeDelayNanos, 0) / 1e6)
+                .description("Current wait before a hedge is sent, in milliseconds")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("risk.hedging.in.flight", budget, b -> maxHedgesInFlight - b.availablePermits())
+                .description("Hedged requests currently in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RiskEvaluation evaluateRisk(String document, BigDecimal amount, Integer termMonths) {
+        calls.increment();
+        CompletableFuture<RiskEvaluation> primary = call(document, amount, termMonths);
+
+        long delay = hedgeDelay();
+        if (delay < 0) {
+            return await(primary);
+        }
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slower than usual: hedge below
+        } catch (ExecutionException e) {
+            return await(primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiskServiceUnavailableException("Interrupted while waiting for the risk service", null, e);
+        }
+
+        return await(hedge(primary, () -> call(document, amount, termMonths)));
+    }
+
+    /**
+     * Same policy without blocking: the hedge delay is a timer rather than a
+     * waiting thread, and both attempts use the delegate's async call.
+     */
+    @Override
+    public CompletableFuture<RiskEvaluation> evaluateRiskAsync(String document, BigDecimal amount,
+            Integer termMonths) {
+        calls.increment();
+        CompletableFuture<RiskEvaluation> primary = callAsync(document, amount, termMonths);
+
+        long delay = hedgeDelay();
+        if (delay < 0 || primary.isDone()) {
+            return primary;
+        }
+        // Whichever comes first, the primary's answer or the timer, decides whether a hedge is sent
+        CompletableFuture<RiskEvaluation> result = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        primary.whenComplete((evaluation, error) -> {
+            if (decided.compareAndSet(false, true)) {
+                relay(primary, result);
+            }
+        });
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor).execute(() -> {
+            if (decided.compareAndSet(false, true)) {
+                relay(hedge(primary, () -> callAsync(document, amount, termMonths)), result);
+            }
+        });
+        return result;
+    }
+
+    // Sends a hedge if the budget allows and races it against the primary
+    private CompletableFuture<RiskEvaluation> hedge(CompletableFuture<RiskEvaluation> primary,
+            Supplier<CompletableFuture<RiskEvaluation>> attempt) {
+        if (!budget.tryAcquire()) {
+            hedgesRejected.increment();
+            return primary;
+        }
+        hedgesSent.increment();
+        CompletableFuture<RiskEvaluation> hedge;
+        try {
+            hedge = attempt.get();
+        } catch (RuntimeException e) {
+            budget.release();
+            return primary;
+        }
+        hedge.whenComplete((result, error) -> budget.release());
+        return firstSuccess(primary, hedge);
+    }
+
+    private CompletableFuture<RiskEvaluation> call(String document, BigDecimal amount, Integer termMonths) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = nanoTime.getAsLong();
+            RiskEvaluation evaluation = delegate.evaluateRisk(document, amount, termMonths);
+            latencies.record(nanoTime.getAsLong() - start);
+            return evaluation;
+        }, executor);
+    }
+
+    private CompletableFuture<RiskEvaluation> callAsync(String document, BigDecimal amount, Integer termMonths) {
+        long start = nanoTime.getAsLong();
+        CompletableFuture<RiskEvaluation> call;
+        try {
+            call = delegate.evaluateRiskAsync(document, amount, termMonths);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        call.thenRun(() -> latencies.record(nanoTime.getAsLong() - start));
+        return call;
+    }
+
+    private static void relay(CompletableFuture<RiskEvaluation> source, CompletableFuture<RiskEvaluation> target) {
+        source.whenComplete((evaluation, error) -> {
+            if (error == null) {
+                target.complete(evaluation);
+            } else {
+                target.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+    }
+
+    // Completes with the first successful answer; fails with the primary's error only if both fail
+    private CompletableFuture<RiskEvaluation> firstSuccess(CompletableFuture<RiskEvaluation> primary,
+            CompletableFuture<RiskEvaluation> hedge) {
+        CompletableFuture<RiskEvaluation> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> {
+            if (error == null) {
+                if (first.complete(result)) {
+                    primaryWins.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                first.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((result, error) -> {
+            if (error == null) {
+                if (first.complete(result)) {
+                    hedgeWins.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                primary.whenComplete((ignored, primaryError) -> first.completeExceptionally(primaryError));
+            }
+        });
+        return first;
+    }
+
+    private RiskEvaluation await(CompletableFuture<RiskEvaluation> call) {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiskServiceUnavailableException("Interrupted while waiting for the risk service", null, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RiskServiceUnavailableException("Failed to evaluate risk: " + cause.getMessage(), null, cause);
+        }
+    }
+
+    /**
+     * Current hedge delay in nanoseconds, or -1 while there are too few samples.
+     * Recomputed at most once a second.
+     */
+    long hedgeDelay() {
+        long now = nanoTime.getAsLong();
+        if (hedgeDelayNanos < 0 || now - delayComputedAt >= DELAY_REFRESH_NANOS) {
+            long observed = latencies.percentile(percentile);
+            hedgeDelayNanos = observed < 0 ? -1 : Math.max(observed, minDelayNanos);
+            delayComputedAt = now;
+        }
+        return hedgeDelayNanos;
+    }
+
+    /**
+     * Ring buffer holding the latencies of the last {@code size} completed calls.
+     */
+    static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        long percentile(double percentile) {
+            long[] sorted;
+            synchronized (this) {
+                if (count < MIN_SAMPLES) {
+                    return -1;
+                }
+                sorted = Arrays.copyOf(samples, count);
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
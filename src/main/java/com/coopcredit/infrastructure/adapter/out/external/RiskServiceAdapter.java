@@ -1,49 +1,146 @@
 package com.coopcredit.infrastructure.adapter.out.external;
 
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
 import com.coopcredit.domain.model.RiskEvaluation;
 import com.coopcredit.domain.port.out.RiskServicePort;
+import com.coopcredit.infrastructure.adapter.out.external.dto.RiskEvaluationRequest;
+import com.coopcredit.infrastructure.adapter.out.external.dto.RiskEvaluationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class RiskServiceAdapter implements RiskServicePort {
 
+    // Tag values are limited to these so an unexpected answer cannot create new series
+    private static final Set<String> RISK_LEVELS = Set.of("BAJO", "MEDIO", "ALTO");
+
     private final RestTemplate restTemplate;
+    private final CloseableHttpAsyncClient httpAsyncClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @org.springframework.beans.factory.annotation.Value("${risk.service.url:http://localhost:8082/risk-evaluation}")
     private String riskServiceUrl;
 
     @Override
     public RiskEvaluation evaluateRisk(String document, BigDecimal amount, Integer termMonths) {
-        Map<String, Object> request = new HashMap<>();
-        request.put("documento", document);
-        request.put("monto", amount);
-        request.put("plazo", termMonths);
+        long start = System.nanoTime();
+        RiskEvaluationResponse response;
+        try {
+            response = restTemplate.postForObject(riskServiceUrl,
+                    new RiskEvaluationRequest(document, amount, termMonths), RiskEvaluationResponse.class);
+        } catch (RuntimeException e) {
+            record(start, "error", "none");
+            throw unavailable(e);
+        }
+        return toEvaluation(response, start);
+    }
 
+    /**
+     * Sent through the async client: no thread waits for the answer. The future
+     * is completed on one of the client's I/O threads, so callers must not run
+     * blocking work in non-async stages chained to it.
+     */
+    @Override
+    public CompletableFuture<RiskEvaluation> evaluateRiskAsync(String document, BigDecimal amount,
+            Integer termMonths) {
+        long start = System.nanoTime();
+        CompletableFuture<RiskEvaluation> result = new CompletableFuture<>();
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(riskServiceUrl, request, Map.class);
-
-            if (response == null) {
-                throw new RuntimeException("Error calling risk service: Empty response");
-            }
-
-            return RiskEvaluation.builder()
-                    .score((Integer) response.get("score"))
-                    .riskLevel((String) response.get("nivelRiesgo"))
-                    .decisionReason((String) response.get("detalle"))
-                    .evaluationDate(LocalDateTime.now())
+            SimpleHttpRequest request = SimpleRequestBuilder.post(riskServiceUrl)
+                    .setHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType())
+                    .setBody(objectMapper.writeValueAsBytes(new RiskEvaluationRequest(document, amount, termMonths)),
+                            ContentType.APPLICATION_JSON)
                     .build();
+            httpAsyncClient.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    RiskEvaluationResponse body;
+                    try {
+                        body = parse(response);
+                    } catch (IOException | RuntimeException e) {
+                        failed(e);
+                        return;
+                    }
+                    try {
+                        result.complete(toEvaluation(body, start));
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    record(start, "error", "none");
+                    result.completeExceptionally(unavailable(e));
+                }
+
+                @Override
+                public void cancelled() {
+                    failed(new IllegalStateException("Request cancelled"));
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            record(start, "error", "none");
+            result.completeExceptionally(unavailable(e));
+        }
+        return result;
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to evaluate risk: " + e.getMessage(), e);
+    // Same contract as RestTemplate: anything but a 2xx is an error
+    private RiskEvaluationResponse parse(SimpleHttpResponse response) throws IOException {
+        if (response.getCode() < 200 || response.getCode() >= 300) {
+            throw new IllegalStateException(response.getCode() + " " + response.getReasonPhrase());
         }
+        byte[] body = response.getBodyBytes();
+        return body == null || body.length == 0 ? null : objectMapper.readValue(body, RiskEvaluationResponse.class);
+    }
+
+    private RiskEvaluation toEvaluation(RiskEvaluationResponse response, long start) {
+        if (response == null || response.getScore() == null) {
+            record(start, "empty", "none");
+            throw unavailable(new RuntimeException("Error calling risk service: Empty response"));
+        }
+        record(start, "success", response.getNivelRiesgo() != null && RISK_LEVELS.contains(response.getNivelRiesgo())
+                ? response.getNivelRiesgo() : "other");
+
+        return RiskEvaluation.builder()
+                .score(response.getScore())
+                .riskLevel(response.getNivelRiesgo())
+                .decisionReason(response.getDetalle())
+                .evaluationDate(LocalDateTime.now())
+                .build();
+    }
+
+    private static RiskServiceUnavailableException unavailable(Exception e) {
+        return new RiskServiceUnavailableException("Failed to evaluate risk: " + e.getMessage(), null, e);
+    }
+
+    private void record(long start, String outcome, String riskLevel) {
+        Timer.builder("risk.service.requests")
+                .description("Risk central calls, one per attempt (hedges included)")
+                .tag("outcome", outcome)
+                .tag("risk.level", riskLevel)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 }
@@ -0,0 +1,17 @@
+package com.coopcredit.infrastructure.adapter.out.external.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Request body of the risk central's POST /risk-evaluation
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskEvaluationRequest {
+    private String documento;
+    private BigDecimal monto;
+    private Integer plazo;
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.infrastructure.adapter.out.external.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Response body of the risk central's POST /risk-evaluation
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskEvaluationResponse {
+    private String documento;
+    private Integer score;
+    private String nivelRiesgo;
+    private String detalle;
+}
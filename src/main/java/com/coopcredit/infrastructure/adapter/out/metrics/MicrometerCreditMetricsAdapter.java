@@ -0,0 +1,53 @@
+package com.coopcredit.infrastructure.adapter.out.metrics;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.port.out.CreditMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes credit flow events as counters:
+ * credit.applications.rejected{reason} and credit.applications.decisions{status}.
+ */
+@Component
+public class MicrometerCreditMetricsAdapter implements CreditMetricsPort {
+
+    private final Map<RejectionReason, Counter> rejections = new EnumMap<>(RejectionReason.class);
+    private final Map<CreditApplication.CreditStatus, Counter> decisions =
+            new EnumMap<>(CreditApplication.CreditStatus.class);
+
+    // Registered up front so every series is scraped from zero, not only after its first event
+    public MicrometerCreditMetricsAdapter(MeterRegistry meterRegistry) {
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejections.put(reason, Counter.builder("credit.applications.rejected")
+                    .description("Applications turned away by registration rules")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry));
+        }
+        for (CreditApplication.CreditStatus status : List.of(
+                CreditApplication.CreditStatus.APPROVED, CreditApplication.CreditStatus.REJECTED)) {
+            decisions.put(status, Counter.builder("credit.applications.decisions")
+                    .description("Evaluation decisions saved")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void applicationRejected(RejectionReason reason) {
+        rejections.get(reason).increment();
+    }
+
+    @Override
+    public void applicationDecided(CreditApplication.CreditStatus status) {
+        Counter counter = decisions.get(status);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.coopcredit.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Startup time by phase, from JVM start to the first request served. Reads the
+ * steps recorded by the {@link BufferingApplicationStartup} set in
+ * CoopCreditApplication: when the application is ready it logs how long each
+ * phase took and the slowest beans, and publishes them as
+ * application.startup.phase{phase}. The first request handled afterwards is
+ * logged and published as application.first-request.time, counted from JVM
+ * start like the application.started.time and application.ready.time gauges
+ * Boot already has.
+ *
+ * <p>Phases: {@code jvm} (JVM start to main), {@code environment}
+ * (configuration loaded), {@code context} (context created and sources
+ * loaded), {@code refresh} (bean definitions and singletons: Hibernate, Flyway,
+ * security, Tomcat start) and {@code other} (the rest of SpringApplication.run:
+ * banner, started listeners and runners).
+ */
+@Slf4j
+@Component
+public class StartupReport {
+
+    static final String PHASE_METRIC = "application.startup.phase";
+    static final String FIRST_REQUEST_METRIC = "application.first-request.time";
+    private static final int SLOWEST_BEANS = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final Instant jvmStart = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    // Gauges keep only a weak reference to their state: they read it from this bean
+    private volatile Map<String, Duration> startupPhases;
+    private volatile Duration firstRequest;
+
+    public StartupReport(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        Duration sinceJvmStart = Duration.between(jvmStart, Instant.now());
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            log.info("Startup: ready {} after JVM start", seconds(sinceJvmStart));
+            return;
+        }
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        Map<String, Duration> phases = phases(timeline, jvmStart, event.getTimeTaken());
+        startupPhases = phases;
+        phases.keySet().forEach(phase -> TimeGauge.builder(PHASE_METRIC, this, TimeUnit.MILLISECONDS,
+                        r -> r.startupPhases.get(phase).toMillis())
+                .description("Time spent in each startup phase")
+                .tag("phase", phase)
+                .register(meterRegistry));
+
+        log.info("Startup: ready {} after JVM start ({}); slowest beans: {}", seconds(sinceJvmStart),
+                phases.entrySet().stream().map(e -> e.getKey() + " " + seconds(e.getValue()))
+                        .collect(Collectors.joining(", ")),
+                slowestBeans(timeline, SLOWEST_BEANS).entrySet().stream()
+                        .map(e -> e.getKey() + " " + seconds(e.getValue()))
+                        .collect(Collectors.joining(", ")));
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!firstRequestSeen.compareAndSet(false, true)) {
+            return;
+        }
+        firstRequest = Duration.between(jvmStart, Instant.ofEpochMilli(event.getTimestamp()));
+        TimeGauge.builder(FIRST_REQUEST_METRIC, this, TimeUnit.MILLISECONDS, r -> r.firstRequest.toMillis())
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+        log.info("Startup: first request ({} {}) served {} after JVM start", event.getMethod(),
+                event.getRequestUrl(), seconds(firstRequest));
+    }
+
+    /**
+     * Duration of each phase, in order. {@code readyTimeTaken} is the time
+     * Boot reports from the start of run() to ready.
+     */
+    static Map<String, Duration> phases(StartupTimeline timeline, Instant jvmStart, Duration readyTimeTaken) {
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        phases.put("jvm", nonNegative(Duration.between(jvmStart, timeline.getStartTime())));
+        phases.put("environment", duration(timeline, "spring.boot.application.environment-prepared"));
+        phases.put("context", duration(timeline, "spring.boot.application.context-prepared")
+                .plus(duration(timeline, "spring.boot.application.context-loaded")));
+        Duration refresh = duration(timeline, "spring.context.refresh");
+        phases.put("refresh", refresh);
+        Duration measured = phases.get("environment").plus(phases.get("context")).plus(refresh);
+        phases.put("other", readyTimeTaken == null ? Duration.ZERO : nonNegative(readyTimeTaken.minus(measured)));
+        return phases;
+    }
+
+    /**
+     * The beans that took longest to create, dependencies created on the way
+     * excluded (only beans not created on behalf of another bean).
+     */
+    static Map<String, Duration> slowestBeans(StartupTimeline timeline, int limit) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Set<Long> beanSteps = new HashSet<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            if (isBeanInstantiation(event.getStartupStep())) {
+                beanSteps.add(event.getStartupStep().getId());
+            }
+        }
+        return events.stream()
+                .filter(e -> isBeanInstantiation(e.getStartupStep()))
+                .filter(e -> !beanSteps.contains(e.getStartupStep().getParentId()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(limit)
+                .collect(Collectors.toMap(e -> beanName(e.getStartupStep()),
+                        StartupTimeline.TimelineEvent::getDuration, Duration::plus, LinkedHashMap::new));
+    }
+
+    private static Duration duration(StartupTimeline timeline, String step) {
+        return timeline.getEvents().stream()
+                .filter(e -> e.getStartupStep().getName().equals(step))
+                .map(StartupTimeline.TimelineEvent::getDuration)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    private static boolean isBeanInstantiation(StartupStep step) {
+        return step.getName().equals("spring.beans.instantiate");
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals("beanName")) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static Duration nonNegative(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+
+    private static String seconds(Duration duration) {
+        return String.format("%.2fs", duration.toMillis() / 1000.0);
+    }
+}
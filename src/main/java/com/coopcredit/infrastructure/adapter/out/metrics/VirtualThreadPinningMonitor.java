@@ -0,0 +1,109 @@
+package com.coopcredit.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread (a
+ * synchronized block or a native frame on the stack), from the JFR event
+ * jdk.VirtualThreadPinned. A pinned virtual thread holds a carrier for as long as
+ * it blocks, so a few of them on a hot path bring back the platform thread limit.
+ *
+ * <p>Every pin longer than {@code threshold} is recorded in
+ * jvm.threads.virtual.pinned{frame, origin}: {@code frame} is where it blocked
+ * (first frame outside the JDK), {@code origin} the first application frame
+ * below it. The first pin of each pair is logged with its stack trace.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final String applicationPackage;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold, String applicationPackage) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.applicationPackage = applicationPackage + ".";
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String frame = frames.stream().filter(f -> !isJdk(f)).findFirst().map(this::name).orElse("jdk");
+        String origin = frames.stream().filter(this::isApplication).findFirst().map(this::name).orElse("none");
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads stayed blocked while pinned to their carrier")
+                .tag("frame", frame)
+                .tag("origin", origin)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reported.add(frame + " " + origin)) {
+            log.warn("Virtual thread pinned for {} ms blocking at {} (from {}):\n{}",
+                    event.getDuration().toMillis(), frame, origin,
+                    frames.stream().map(f -> "\tat " + name(f) + ":" + f.getLineNumber())
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static boolean isJdk(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return JDK_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private boolean isApplication(RecordedFrame frame) {
+        return frame.getMethod().getType().getName().startsWith(applicationPackage);
+    }
+
+    private String name(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
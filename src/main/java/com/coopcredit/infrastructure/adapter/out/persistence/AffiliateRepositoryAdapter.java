@@ -1,38 +1,121 @@
 package com.coopcredit.infrastructure.adapter.out.persistence;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CursorPage;
 import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
+@Timed(value = "coopcredit.repository", description = "Repository call time")
 public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
 
+    // One statement per chunk: the rows travel as column arrays and are unnested server-side
+    private static final String INSERT_ALL_SQL = """
+            INSERT INTO affiliates (document, name, salary, affiliation_date, status)
+            SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::numeric[], ?::date[], ?::varchar[])
+            ON CONFLICT (document) DO NOTHING
+            RETURNING document
+            """;
+
+    private static final int INSERT_CHUNK_SIZE = 5000;
+    // PostgreSQL SQLSTATE unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final SpringDataAffiliateRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * The duplicate check before a create can be answered by another node's
+     * cached "not found"; the unique index then rejects the insert, and that is
+     * reported the same way as the check.
+     */
     @Override
     public Affiliate save(Affiliate affiliate) {
         AffiliateEntity entity = toEntity(affiliate);
-        AffiliateEntity saved = repository.save(entity);
+        AffiliateEntity saved;
+        try {
+            saved = repository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new IllegalArgumentException("Affiliate with this document already exists", e);
+            }
+            throw e;
+        }
         return toDomain(saved);
     }
 
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+                || NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sql
+                        && UNIQUE_VIOLATION.equals(sql.getSQLState());
+    }
+
     @Override
     public Optional<Affiliate> findByDocument(String document) {
         return repository.findByDocument(document).map(this::toDomain);
     }
 
     @Override
-    public java.util.List<Affiliate> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+    @Transactional
+    public List<String> insertAll(List<Affiliate> affiliates) {
+        List<String> inserted = new ArrayList<>(affiliates.size());
+        for (int from = 0; from < affiliates.size(); from += INSERT_CHUNK_SIZE) {
+            List<Affiliate> chunk = affiliates.subList(from, Math.min(from + INSERT_CHUNK_SIZE, affiliates.size()));
+            inserted.addAll(jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_ALL_SQL);
+                ps.setArray(1, con.createArrayOf("varchar",
+                        chunk.stream().map(Affiliate::getDocument).toArray()));
+                ps.setArray(2, con.createArrayOf("varchar",
+                        chunk.stream().map(Affiliate::getName).toArray()));
+                ps.setArray(3, con.createArrayOf("numeric",
+                        chunk.stream().map(Affiliate::getSalary).toArray()));
+                ps.setArray(4, con.createArrayOf("date",
+                        chunk.stream().map(a -> Date.valueOf(a.getAffiliationDate())).toArray()));
+                ps.setArray(5, con.createArrayOf("varchar",
+                        chunk.stream().map(a -> a.getStatus().name()).toArray()));
+                return ps;
+            }, (rs, rowNum) -> rs.getString("document")));
+        }
+        return inserted;
+    }
+
+    @Override
+    public CursorPage<Affiliate> findPage(Affiliate.AffiliateStatus status, String cursor, int size) {
+        long afterId = KeysetCursor.decodeId(cursor);
+        // Fetch one extra row to know whether a next page exists
+        Limit limit = Limit.of(size + 1);
+        java.util.List<AffiliateEntity> rows = status == null
+                ? repository.findByIdGreaterThanOrderByIdAsc(afterId, limit)
+                : repository.findByStatusAndIdGreaterThanOrderByIdAsc(status.name(), afterId, limit);
+
+        boolean hasMore = rows.size() > size;
+        java.util.List<Affiliate> items = rows.stream().limit(size).map(this::toDomain).toList();
+        return CursorPage.<Affiliate>builder()
+                .items(items)
+                .nextCursor(hasMore ? KeysetCursor.encode(items.get(items.size() - 1).getId()) : null)
+                .build();
     }
 
-    private AffiliateEntity toEntity(Affiliate domain) {
+    // Mappers are package-private for the JMH benchmarks (src/jmh/java)
+    AffiliateEntity toEntity(Affiliate domain) {
         return AffiliateEntity.builder()
                 .id(domain.getId())
                 .document(domain.getDocument())
@@ -43,7 +126,7 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
                 .build();
     }
 
-    private Affiliate toDomain(AffiliateEntity entity) {
+    Affiliate toDomain(AffiliateEntity entity) {
         return Affiliate.builder()
                 .id(entity.getId())
                 .document(entity.getDocument())
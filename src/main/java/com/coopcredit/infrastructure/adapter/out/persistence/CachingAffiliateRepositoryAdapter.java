@@ -0,0 +1,128 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CursorPage;
+import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache for {@link AffiliateRepositoryPort#findByDocument}. Misses
+ * are cached as well (with their own, usually shorter, TTL) so duplicate checks
+ * before inserts are answered from memory. Saving an affiliate evicts its entry.
+ *
+ * <p>The cache is per node: eviction does not reach other replicas, which keep
+ * their entries until the TTL. A duplicate check passed there on a stale "not
+ * found" is caught by the unique index on insert.
+ */
+public class CachingAffiliateRepositoryAdapter implements AffiliateRepositoryPort {
+
+    private final AffiliateRepositoryPort delegate;
+    private final Cache<String, Optional<Affiliate>> cache;
+
+    public CachingAffiliateRepositoryAdapter(AffiliateRepositoryPort delegate, long maximumSize, Duration ttl,
+            Duration negativeTtl) {
+        this(delegate, maximumSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    CachingAffiliateRepositoryAdapter(AffiliateRepositoryPort delegate, long maximumSize, Duration ttl,
+            Duration negativeTtl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new WriteExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Affiliate save(Affiliate affiliate) {
+        Affiliate saved = delegate.save(affiliate);
+        evict(saved.getDocument());
+        return saved;
+    }
+
+    @Override
+    public Optional<Affiliate> findByDocument(String document) {
+        // Callers mutate what they get back (updateAffiliate), so never hand out the cached instance
+        return cache.get(document, delegate::findByDocument).map(this::copyOf);
+    }
+
+    @Override
+    public List<String> insertAll(List<Affiliate> affiliates) {
+        List<String> inserted = delegate.insertAll(affiliates);
+        // Mostly drops cached "not found" entries left by earlier duplicate checks
+        evictAll(inserted);
+        return inserted;
+    }
+
+    @Override
+    public CursorPage<Affiliate> findPage(Affiliate.AffiliateStatus status, String cursor, int size) {
+        return delegate.findPage(status, cursor, size);
+    }
+
+    /**
+     * Drops this node's entry for a document written outside {@link #save}.
+     */
+    public void evict(String document) {
+        evictAll(List.of(document));
+    }
+
+    private void evictAll(Collection<String> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(documents);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A concurrent reader may reload the pre-commit row before the write is visible; evict again then
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(documents);
+                }
+            });
+        }
+    }
+
+    /**
+     * The underlying cache, used to bind its statistics to Micrometer.
+     */
+    public Cache<String, Optional<Affiliate>> getCache() {
+        return cache;
+    }
+
+    private Affiliate copyOf(Affiliate affiliate) {
+        return affiliate.toBuilder().build();
+    }
+
+    // Time-to-live from the last write, shorter for "not found" entries
+    private record WriteExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<String, Optional<Affiliate>> {
+
+        @Override
+        public long expireAfterCreate(String document, Optional<Affiliate> affiliate, long currentTime) {
+            return affiliate.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String document, Optional<Affiliate> affiliate, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(document, affiliate, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String document, Optional<Affiliate> affiliate, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.IdempotencyRecord;
+import com.coopcredit.domain.model.IdempotentResponse;
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Node-local layer in front of the shared {@link IdempotencyStorePort}.
+ * Completed responses are kept in memory, so a retry that lands on the node
+ * that served the original request is answered without a database round trip.
+ * Requests waiting for a key held by this same node are woken as soon as it
+ * completes instead of polling the database; keys held by other nodes are
+ * left to the delegate.
+ */
+public class CachingIdempotencyStoreAdapter implements IdempotencyStorePort {
+
+    private final IdempotencyStorePort delegate;
+    private final Cache<String, IdempotencyRecord> completed;
+    // Keys reserved by requests running on this node
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public CachingIdempotencyStoreAdapter(IdempotencyStorePort delegate, long maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingIdempotencyStoreAdapter(IdempotencyStorePort delegate, long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public IdempotencyRecord begin(String scope, String key, String requestHash, Duration lockTimeout) {
+        String id = id(scope, key);
+        IdempotencyRecord cached = completed.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        IdempotencyRecord record = delegate.begin(scope, key, requestHash, lockTimeout);
+        if (record.isAcquired()) {
+            inFlight.put(id, new InFlight(requestHash, new CompletableFuture<>()));
+        } else if (record.isCompleted()) {
+            completed.put(id, record);
+        }
+        return record;
+    }
+
+    @Override
+    public IdempotencyRecord awaitCompletion(String scope, String key, Duration timeout) {
+        String id = id(scope, key);
+        InFlight local = inFlight.get(id);
+        if (local == null) {
+            IdempotencyRecord cached = completed.getIfPresent(id);
+            if (cached != null) {
+                return cached;
+            }
+            IdempotencyRecord record = delegate.awaitCompletion(scope, key, timeout);
+            if (record != null && record.isCompleted()) {
+                completed.put(id, record);
+            }
+            return record;
+        }
+        try {
+            return local.done().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return local.inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return local.inProgress();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void complete(String scope, String key, IdempotentResponse response, Duration ttl) {
+        String id = id(scope, key);
+        InFlight local = inFlight.remove(id);
+        IdempotencyRecord record = null;
+        try {
+            delegate.complete(scope, key, response, ttl);
+            if (local != null) {
+                record = IdempotencyRecord.builder().requestHash(local.requestHash()).response(response).build();
+                completed.put(id, record);
+            }
+        } finally {
+            if (local != null) {
+                // Null (released) if the response could not be stored: local waiters then retry on their own
+                local.done().complete(record);
+            }
+        }
+    }
+
+    @Override
+    public void release(String scope, String key) {
+        InFlight local = inFlight.remove(id(scope, key));
+        try {
+            delegate.release(scope, key);
+        } finally {
+            if (local != null) {
+                local.done().complete(null);
+            }
+        }
+    }
+
+    @Override
+    public int deleteExpired() {
+        return delegate.deleteExpired();
+    }
+
+    /**
+     * The completed-response cache, used to bind its statistics to Micrometer.
+     */
+    public Cache<String, IdempotencyRecord> getCache() {
+        return completed;
+    }
+
+    private static String id(String scope, String key) {
+        return scope + '\u0000' + key;
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<IdempotencyRecord> done) {
+
+        IdempotencyRecord inProgress() {
+            return IdempotencyRecord.builder().requestHash(requestHash).build();
+        }
+    }
+}
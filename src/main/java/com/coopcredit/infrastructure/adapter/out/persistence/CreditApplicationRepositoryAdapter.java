@@ -1,26 +1,170 @@
 package com.coopcredit.infrastructure.adapter.out.persistence;
 
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.domain.model.CursorPage;
+import com.coopcredit.domain.model.PortfolioStatistics.RiskLevelSummary;
+import com.coopcredit.domain.model.PortfolioStatisticsEntry;
 import com.coopcredit.domain.model.RiskEvaluation;
 import com.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.CreditApplicationRow;
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataCreditApplicationRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
+@Timed(value = "coopcredit.repository", description = "Repository call time")
 public class CreditApplicationRepositoryAdapter implements CreditApplicationRepositoryPort {
 
+        private static final String UPDATE_DECISION_SQL = """
+                        UPDATE credit_applications
+                           SET status = ?, risk_score = ?, risk_level = ?, decision_reason = ?, evaluation_date = ?,
+                               lease_expires_at = NULL, next_attempt_at = NULL, version = version + 1
+                         WHERE id = ? AND status = 'EVALUATING'
+                        """;
+
+        // An expired lease is taken over as well: its node died mid-evaluation, and without workers
+        // nothing else would ever hand the application back
+        private static final String CLAIM_SQL = """
+                        UPDATE credit_applications
+                           SET status = 'EVALUATING', lease_expires_at = now() + make_interval(secs => ?),
+                               evaluation_attempts = evaluation_attempts + 1, version = version + 1
+                         WHERE id = ANY (?)
+                           AND (status = 'PENDING' OR (status = 'EVALUATING' AND lease_expires_at < now()))
+                        RETURNING id
+                        """;
+
+        // Oldest ready applications first; rows locked by another node's claim are skipped, not waited on.
+        // MATERIALIZED: as a plain IN (subquery) the planner may rescan it per row and claim past the LIMIT
+        private static final String CLAIM_NEXT_SQL = """
+                        WITH next AS MATERIALIZED (
+                                SELECT id
+                                  FROM credit_applications
+                                 WHERE status = 'PENDING'
+                                   AND (next_attempt_at IS NULL OR next_attempt_at <= now())
+                                 ORDER BY application_date, id
+                                 LIMIT ?
+                                   FOR UPDATE SKIP LOCKED)
+                        UPDATE credit_applications c
+                           SET status = 'EVALUATING', lease_expires_at = now() + make_interval(secs => ?),
+                               evaluation_attempts = c.evaluation_attempts + 1, version = c.version + 1
+                          FROM next
+                         WHERE c.id = next.id
+                        RETURNING c.id
+                        """;
+
+        // Back to PENDING, ready again after retry-delay * 2^(attempts - 1), capped at max-retry-delay
+        private static final String RELEASE_SET_SQL = """
+                        UPDATE credit_applications
+                           SET status = 'PENDING', lease_expires_at = NULL, version = version + 1,
+                               next_attempt_at = now() + LEAST(
+                                       make_interval(secs => ? * power(2, LEAST(GREATEST(evaluation_attempts - 1, 0), 20))),
+                                       make_interval(secs => ?))
+                        """;
+
+        private static final String RELEASE_SQL = RELEASE_SET_SQL + """
+                         WHERE id = ANY (?) AND status = 'EVALUATING'
+                        """;
+
+        private static final String RELEASE_EXPIRED_SQL = RELEASE_SET_SQL + """
+                         WHERE status = 'EVALUATING' AND lease_expires_at < now()
+                        """;
+
+        private static final String EXPORT_SQL = """
+                        SELECT c.id, c.requested_amount, c.term_months, c.proposed_rate, c.application_date,
+                               c.status, c.risk_score, c.risk_level, c.decision_reason, c.evaluation_date,
+                               c.version, a.id AS affiliate_id, a.document, a.name
+                          FROM credit_applications c
+                          JOIN affiliates a ON a.id = c.affiliate_id
+                         WHERE c.id > ?
+                         ORDER BY c.id
+                        """;
+
+        // Rows pulled per round trip from the server-side cursor
+        private static final int EXPORT_FETCH_SIZE = 1000;
+
+        // Adds a delta to one row of the portfolio statistics (V5__credit_application_stats.sql)
+        private static final String STATS_UPSERT_SQL = """
+                        INSERT INTO credit_application_stats AS s (period_month, status, risk_level, score_band, slot,
+                                                                   application_count, requested_amount_sum, risk_score_sum)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        ON CONFLICT (period_month, status, risk_level, score_band, slot) DO UPDATE
+                           SET application_count = s.application_count + EXCLUDED.application_count,
+                               requested_amount_sum = s.requested_amount_sum + EXCLUDED.requested_amount_sum,
+                               risk_score_sum = s.risk_score_sum + EXCLUDED.risk_score_sum
+                        """;
+
+        private static final String STATS_SELECT_SQL = """
+                        SELECT period_month, status, risk_level, score_band,
+                               sum(application_count) AS application_count,
+                               sum(requested_amount_sum) AS requested_amount_sum,
+                               sum(risk_score_sum) AS risk_score_sum
+                          FROM credit_application_stats
+                         WHERE period_month BETWEEN ? AND ?
+                         GROUP BY period_month, status, risk_level, score_band
+                        HAVING sum(application_count) <> 0
+                         ORDER BY period_month
+                        """;
+
+        // Rows per statistics key that writers spread over, so concurrent registrations rarely share a row lock
+        private static final int STATS_SLOTS = 8;
+        private static final String NO_RISK_LEVEL = "";
+        private static final int NO_SCORE_BAND = -1;
+        private static final LocalDate FIRST_MONTH = LocalDate.of(1, 1, 1);
+        private static final LocalDate LAST_MONTH = LocalDate.of(9999, 12, 1);
+
         private final SpringDataCreditApplicationRepository repository;
+        private final JdbcTemplate jdbcTemplate;
+
+        // How long a claim holds an application before another node may take it over
+        @Value("${evaluation.queue.lease:2m}")
+        private Duration evaluationLease;
+
+        @Value("${evaluation.queue.retry-delay:5s}")
+        private Duration retryDelay;
+
+        @Value("${evaluation.queue.max-retry-delay:5m}")
+        private Duration maxRetryDelay;
 
         @Override
+        @Transactional
         public CreditApplication save(CreditApplication application) {
+                boolean isNew = application.getId() == null;
                 CreditApplicationEntity entity = toEntity(application);
                 CreditApplicationEntity saved = repository.save(entity);
-                return toDomain(saved);
+                CreditApplication result = toDomain(saved);
+                if (isNew) {
+                        Map<StatsKey, StatsDelta> deltas = new TreeMap<>();
+                        addStats(deltas, result, CreditApplication.CreditStatus.PENDING, 1);
+                        writeStats(deltas);
+                }
+                return result;
         }
 
         @Override
@@ -29,27 +173,276 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
         }
 
         @Override
-        public java.util.List<CreditApplication> findAll() {
-                return repository.findAll().stream()
+        @Transactional(readOnly = true)
+        public CursorPage<CreditApplication> findPage(CreditApplicationFilter filter, String cursor, int size) {
+                KeysetCursor.DateIdKey after = KeysetCursor.decodeDateId(cursor);
+                // Fetch one extra row to know whether a next page exists
+                java.util.List<CreditApplicationRow> rows = repository.findPage(filter,
+                                after != null ? after.date() : null,
+                                after != null ? after.id() : null,
+                                size + 1);
+
+                boolean hasMore = rows.size() > size;
+                java.util.List<CreditApplication> items = rows.stream()
+                                .limit(size)
                                 .map(this::toDomain)
                                 .collect(java.util.stream.Collectors.toList());
+                String nextCursor = null;
+                if (hasMore) {
+                        CreditApplication last = items.get(items.size() - 1);
+                        nextCursor = KeysetCursor.encode(last.getApplicationDate(), last.getId());
+                }
+                return CursorPage.<CreditApplication>builder()
+                                .items(items)
+                                .nextCursor(nextCursor)
+                                .build();
         }
 
         @Override
+        @Transactional(readOnly = true)
+        public void streamAll(Long afterId, Consumer<CreditApplication> consumer) {
+                // The pgjdbc driver only uses a cursor (fetch size honoured) inside a transaction;
+                // rows are mapped straight from the ResultSet, nothing enters the persistence context
+                jdbcTemplate.query(con -> {
+                        PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                                        ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(EXPORT_FETCH_SIZE);
+                        ps.setLong(1, afterId != null ? afterId : 0L);
+                        return ps;
+                }, (RowCallbackHandler) rs -> consumer.accept(mapExportRow(rs)));
+        }
+
+        @Override
+        @Transactional(readOnly = true)
         public java.util.List<CreditApplication> findByStatus(CreditApplication.CreditStatus status) {
-                return repository.findByStatus(status.name()).stream()
+                return repository.findRowsByStatus(status.name()).stream()
                                 .map(this::toDomain)
                                 .collect(java.util.stream.Collectors.toList());
         }
 
         @Override
+        @Transactional(readOnly = true)
         public java.util.List<CreditApplication> findByAffiliateDocument(String document) {
-                return repository.findByAffiliateDocument(document).stream()
+                return repository.findRowsByAffiliateDocument(document).stream()
                                 .map(this::toDomain)
                                 .collect(java.util.stream.Collectors.toList());
         }
 
-        private CreditApplicationEntity toEntity(CreditApplication domain) {
+        @Override
+        public java.util.List<CreditApplication> findAllById(java.util.List<Long> ids) {
+                return repository.findAllById(ids).stream()
+                                .map(this::toDomain)
+                                .collect(java.util.stream.Collectors.toList());
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public java.util.List<CreditApplication> findByStatus(CreditApplication.CreditStatus status, int limit) {
+                return repository.findRowsByStatusOrderByApplicationDateAscIdAsc(status.name(), Limit.of(limit))
+                                .stream()
+                                .map(this::toDomain)
+                                .collect(java.util.stream.Collectors.toList());
+        }
+
+        @Override
+        public java.util.List<Long> claimForEvaluation(java.util.List<Long> ids) {
+                // Single conditional UPDATE, auto-committed: no connection is held once it returns
+                return jdbcTemplate.query(con -> {
+                        PreparedStatement ps = con.prepareStatement(CLAIM_SQL);
+                        ps.setDouble(1, seconds(evaluationLease));
+                        ps.setArray(2, con.createArrayOf("bigint", ids.toArray()));
+                        return ps;
+                }, (rs, rowNum) -> rs.getLong("id"));
+        }
+
+        @Override
+        public java.util.List<Long> claimNextForEvaluation(int limit) {
+                return jdbcTemplate.query(con -> {
+                        PreparedStatement ps = con.prepareStatement(CLAIM_NEXT_SQL);
+                        ps.setInt(1, limit);
+                        ps.setDouble(2, seconds(evaluationLease));
+                        return ps;
+                }, (rs, rowNum) -> rs.getLong("id"));
+        }
+
+        @Override
+        public void releaseClaims(java.util.List<Long> ids) {
+                jdbcTemplate.update(con -> {
+                        PreparedStatement ps = con.prepareStatement(RELEASE_SQL);
+                        ps.setDouble(1, seconds(retryDelay));
+                        ps.setDouble(2, seconds(maxRetryDelay));
+                        ps.setArray(3, con.createArrayOf("bigint", ids.toArray()));
+                        return ps;
+                });
+        }
+
+        @Override
+        public int releaseExpiredClaims() {
+                return jdbcTemplate.update(RELEASE_EXPIRED_SQL, seconds(retryDelay), seconds(maxRetryDelay));
+        }
+
+        private static double seconds(Duration duration) {
+                return duration.toMillis() / 1000.0;
+        }
+
+        @Override
+        @Transactional
+        public java.util.List<Boolean> saveDecisions(java.util.List<CreditApplication> applications) {
+                if (applications.isEmpty()) {
+                        return java.util.List.of();
+                }
+                // Plain JDBC batch: one round trip, no merge/select per row as repository.save() would do
+                int[][] counts = jdbcTemplate.batchUpdate(UPDATE_DECISION_SQL, applications, applications.size(),
+                                (ps, app) -> {
+                                        RiskEvaluation risk = app.getRiskEvaluation();
+                                        ps.setString(1, app.getStatus().name());
+                                        ps.setObject(2, risk.getScore(), Types.INTEGER);
+                                        ps.setString(3, risk.getRiskLevel());
+                                        ps.setString(4, risk.getDecisionReason());
+                                        ps.setTimestamp(5, risk.getEvaluationDate() != null
+                                                        ? Timestamp.valueOf(risk.getEvaluationDate())
+                                                        : null);
+                                        ps.setLong(6, app.getId());
+                                });
+                java.util.List<Boolean> written = Arrays.stream(counts)
+                                .flatMapToInt(Arrays::stream)
+                                .mapToObj(count -> count > 0)
+                                .collect(java.util.stream.Collectors.toList());
+
+                // Only decisions that were written leave PENDING in the statistics
+                Map<StatsKey, StatsDelta> deltas = new TreeMap<>();
+                for (int i = 0; i < applications.size(); i++) {
+                        if (written.get(i)) {
+                                CreditApplication app = applications.get(i);
+                                addStats(deltas, app, CreditApplication.CreditStatus.PENDING, -1);
+                                addStats(deltas, app, app.getStatus(), 1);
+                        }
+                }
+                writeStats(deltas);
+                return written;
+        }
+
+        @Override
+        public java.util.List<PortfolioStatisticsEntry> findStatistics(YearMonth from, YearMonth to) {
+                return jdbcTemplate.query(STATS_SELECT_SQL, (rs, rowNum) -> {
+                        String riskLevel = rs.getString("risk_level");
+                        int scoreBand = rs.getInt("score_band");
+                        return PortfolioStatisticsEntry.builder()
+                                        .month(YearMonth.from(rs.getDate("period_month").toLocalDate()))
+                                        .status(CreditApplication.CreditStatus.valueOf(rs.getString("status")))
+                                        .riskLevel(NO_RISK_LEVEL.equals(riskLevel) ? null : riskLevel)
+                                        .scoreBand(scoreBand == NO_SCORE_BAND ? null : scoreBand)
+                                        .count(rs.getLong("application_count"))
+                                        .requestedAmountSum(rs.getBigDecimal("requested_amount_sum"))
+                                        .riskScoreSum(rs.getLong("risk_score_sum"))
+                                        .build();
+                },
+                                from != null ? from.atDay(1) : FIRST_MONTH,
+                                to != null ? to.atDay(1) : LAST_MONTH);
+        }
+
+        /**
+         * Adds {@code sign} times the application to the statistics key of the
+         * given status. Decided applications are keyed by risk level and score
+         * band as well; EVALUATING counts as PENDING.
+         */
+        private void addStats(Map<StatsKey, StatsDelta> deltas, CreditApplication app,
+                        CreditApplication.CreditStatus status, int sign) {
+                boolean decided = status == CreditApplication.CreditStatus.APPROVED
+                                || status == CreditApplication.CreditStatus.REJECTED;
+                RiskEvaluation risk = decided ? app.getRiskEvaluation() : null;
+                Integer score = risk != null ? risk.getScore() : null;
+                StatsKey key = new StatsKey(
+                                app.getApplicationDate().toLocalDate().withDayOfMonth(1),
+                                decided ? status.name() : CreditApplication.CreditStatus.PENDING.name(),
+                                risk != null && risk.getRiskLevel() != null ? risk.getRiskLevel() : NO_RISK_LEVEL,
+                                score != null ? Math.floorDiv(score, RiskLevelSummary.SCORE_BAND_WIDTH)
+                                                * RiskLevelSummary.SCORE_BAND_WIDTH
+                                                : NO_SCORE_BAND);
+                StatsDelta delta = new StatsDelta(sign, app.getRequestedAmount().multiply(BigDecimal.valueOf(sign)),
+                                score != null ? (long) sign * score : 0L);
+                deltas.merge(key, delta, StatsDelta::plus);
+        }
+
+        /**
+         * Applies the deltas in key order, so two transactions touching the same
+         * rows lock them in the same order and cannot deadlock. All rows of one
+         * call go to the same random slot.
+         */
+        private void writeStats(Map<StatsKey, StatsDelta> deltas) {
+                if (deltas.isEmpty()) {
+                        return;
+                }
+                int slot = ThreadLocalRandom.current().nextInt(STATS_SLOTS);
+                jdbcTemplate.batchUpdate(STATS_UPSERT_SQL, new ArrayList<>(deltas.entrySet()), deltas.size(),
+                                (ps, entry) -> {
+                                        StatsKey key = entry.getKey();
+                                        StatsDelta delta = entry.getValue();
+                                        ps.setObject(1, key.month());
+                                        ps.setString(2, key.status());
+                                        ps.setString(3, key.riskLevel());
+                                        ps.setInt(4, key.scoreBand());
+                                        ps.setShort(5, (short) slot);
+                                        ps.setLong(6, delta.count());
+                                        ps.setBigDecimal(7, delta.requestedAmount());
+                                        ps.setLong(8, delta.riskScore());
+                                });
+        }
+
+        private record StatsKey(LocalDate month, String status, String riskLevel, int scoreBand)
+                        implements Comparable<StatsKey> {
+
+                private static final Comparator<StatsKey> ORDER = Comparator.comparing(StatsKey::month)
+                                .thenComparing(StatsKey::status)
+                                .thenComparing(StatsKey::riskLevel)
+                                .thenComparingInt(StatsKey::scoreBand);
+
+                @Override
+                public int compareTo(StatsKey other) {
+                        return ORDER.compare(this, other);
+                }
+        }
+
+        private record StatsDelta(long count, BigDecimal requestedAmount, long riskScore) {
+
+                StatsDelta plus(StatsDelta other) {
+                        return new StatsDelta(count + other.count, requestedAmount.add(other.requestedAmount),
+                                        riskScore + other.riskScore);
+                }
+        }
+
+        private CreditApplication mapExportRow(ResultSet rs) throws SQLException {
+                RiskEvaluation risk = null;
+                int score = rs.getInt("risk_score");
+                if (!rs.wasNull()) {
+                        Timestamp evaluationDate = rs.getTimestamp("evaluation_date");
+                        risk = RiskEvaluation.builder()
+                                        .score(score)
+                                        .riskLevel(rs.getString("risk_level"))
+                                        .decisionReason(rs.getString("decision_reason"))
+                                        .evaluationDate(evaluationDate != null ? evaluationDate.toLocalDateTime() : null)
+                                        .build();
+                }
+
+                return CreditApplication.builder()
+                                .id(rs.getLong("id"))
+                                .affiliate(com.coopcredit.domain.model.Affiliate.builder()
+                                                .id(rs.getLong("affiliate_id"))
+                                                .document(rs.getString("document"))
+                                                .name(rs.getString("name"))
+                                                .build())
+                                .requestedAmount(rs.getBigDecimal("requested_amount"))
+                                .termMonths(rs.getInt("term_months"))
+                                .proposedRate(rs.getBigDecimal("proposed_rate"))
+                                .applicationDate(rs.getTimestamp("application_date").toLocalDateTime())
+                                .status(CreditApplication.CreditStatus.valueOf(rs.getString("status")))
+                                .riskEvaluation(risk)
+                                .version(rs.getLong("version"))
+                                .build();
+        }
+
+        // Mappers are package-private for the JMH benchmarks (src/jmh/java)
+        CreditApplicationEntity toEntity(CreditApplication domain) {
                 com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity aff = com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity
                                 .builder()
                                 .id(domain.getAffiliate().getId()) // Assuming ID is present for linking
@@ -76,10 +469,39 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                                                 domain.getRiskEvaluation() != null
                                                                 ? domain.getRiskEvaluation().getEvaluationDate()
                                                                 : null)
+                                .version(domain.getVersion())
+                                .build();
+        }
+
+        CreditApplication toDomain(CreditApplicationRow row) {
+                RiskEvaluation risk = null;
+                if (row.riskScore() != null) {
+                        risk = RiskEvaluation.builder()
+                                        .score(row.riskScore())
+                                        .riskLevel(row.riskLevel())
+                                        .decisionReason(row.decisionReason())
+                                        .evaluationDate(row.evaluationDate())
+                                        .build();
+                }
+
+                return CreditApplication.builder()
+                                .id(row.id())
+                                .affiliate(com.coopcredit.domain.model.Affiliate.builder()
+                                                .id(row.affiliateId())
+                                                .document(row.affiliateDocument())
+                                                .name(row.affiliateName())
+                                                .build())
+                                .requestedAmount(row.requestedAmount())
+                                .termMonths(row.termMonths())
+                                .proposedRate(row.proposedRate())
+                                .applicationDate(row.applicationDate())
+                                .status(CreditApplication.CreditStatus.valueOf(row.status()))
+                                .riskEvaluation(risk)
+                                .version(row.version())
                                 .build();
         }
 
-        private CreditApplication toDomain(CreditApplicationEntity entity) {
+        CreditApplication toDomain(CreditApplicationEntity entity) {
                 RiskEvaluation risk = null;
                 if (entity.getRiskScore() != null) {
                         risk = RiskEvaluation.builder()
@@ -111,6 +533,7 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                                 .applicationDate(entity.getApplicationDate())
                                 .status(CreditApplication.CreditStatus.valueOf(entity.getStatus()))
                                 .riskEvaluation(risk)
+                                .version(entity.getVersion())
                                 .build();
         }
 }
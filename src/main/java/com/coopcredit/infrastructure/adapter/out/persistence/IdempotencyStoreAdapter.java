@@ -0,0 +1,140 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.IdempotencyRecord;
+import com.coopcredit.domain.model.IdempotentResponse;
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+* Idempotency-Key records in the idempotency_keys table
+* (V7__idempotency_keys.sql), shared by every node. Each call is a single
+* auto-committed statement.
+*/
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStoreAdapter implements IdempotencyStorePort {
+
+    // Inserts the reservation, or takes over an expired record (stale lock or response past its TTL)
+    private static final String RESERVE_SQL = """
+            INSERT INTO idempotency_keys AS k (scope, idempotency_key, request_hash, expires_at)
+            VALUES (?, ?, ?, now() + make_interval(secs => ?))
+            ON CONFLICT (scope, idempotency_key) DO UPDATE
+               SET request_hash = EXCLUDED.request_hash, response_status = NULL,
+                   response_content_type = NULL, response_location = NULL, response_body = NULL,
+                   created_at = now(), expires_at = EXCLUDED.expires_at
+             WHERE k.expires_at < now()
+            RETURNING request_hash
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT request_hash, response_status, response_content_type, response_location, response_body
+              FROM idempotency_keys
+             WHERE scope = ? AND idempotency_key = ? AND expires_at >= now()
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys
+               SET response_status = ?, response_content_type = ?, response_location = ?, response_body = ?,
+                   expires_at = now() + make_interval(secs => ?)
+             WHERE scope = ? AND idempotency_key = ? AND response_status IS NULL
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM idempotency_keys
+             WHERE scope = ? AND idempotency_key = ? AND response_status IS NULL
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM idempotency_keys WHERE expires_at < now()
+            """;
+
+    // Polling interval while another node's request is in progress, doubled up to the maximum
+    private static final long FIRST_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public IdempotencyRecord begin(String scope, String key, String requestHash, Duration lockTimeout) {
+        // A record deleted between the two statements is simply reserved on the next pass
+        while (true) {
+            List<String> reserved = jdbcTemplate.queryForList(RESERVE_SQL, String.class,
+                    scope, key, requestHash, seconds(lockTimeout));
+            if (!reserved.isEmpty()) {
+                return IdempotencyRecord.builder().requestHash(requestHash).acquired(true).build();
+            }
+            IdempotencyRecord existing = find(scope, key);
+            if (existing != null) {
+                return existing;
+            }
+        }
+    }
+
+    @Override
+    public IdempotencyRecord awaitCompletion(String scope, String key, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long pause = FIRST_POLL_NANOS;
+        while (true) {
+            IdempotencyRecord record = find(scope, key);
+            long remaining = deadline - System.nanoTime();
+            if (record == null || record.isCompleted() || remaining <= 0) {
+                return record;
+            }
+            LockSupport.parkNanos(Math.min(pause, remaining));
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return record;
+            }
+            pause = Math.min(pause * 2, MAX_POLL_NANOS);
+        }
+    }
+
+    @Override
+    public void complete(String scope, String key, IdempotentResponse response, Duration ttl) {
+        jdbcTemplate.update(COMPLETE_SQL, response.getStatus(), response.getContentType(), response.getLocation(),
+                response.getBody(), seconds(ttl), scope, key);
+    }
+
+    @Override
+    public void release(String scope, String key) {
+        jdbcTemplate.update(RELEASE_SQL, scope, key);
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL);
+    }
+
+    private IdempotencyRecord find(String scope, String key) {
+        List<IdempotencyRecord> found = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> toRecord(rs), scope, key);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private static IdempotencyRecord toRecord(ResultSet rs) throws SQLException {
+        int status = rs.getInt("response_status");
+        IdempotentResponse response = rs.wasNull() ? null
+                : IdempotentResponse.builder()
+                        .status(status)
+                        .contentType(rs.getString("response_content_type"))
+                        .location(rs.getString("response_location"))
+                        .body(rs.getBytes("response_body"))
+                        .build();
+        return IdempotencyRecord.builder()
+                .requestHash(rs.getString("request_hash"))
+                .response(response)
+                .build();
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
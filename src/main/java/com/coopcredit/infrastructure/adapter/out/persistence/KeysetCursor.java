@@ -0,0 +1,79 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque page tokens for keyset pagination: the sort key of the last row of a
+ * page, Base64url-encoded so clients treat it as a black box.
+ */
+final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    static String encode(LocalDateTime date, Long id) {
+        return encode(date + SEPARATOR + id);
+    }
+
+    static String encode(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    /**
+     * Decodes a (date, id) cursor. Returns null for a null cursor (first page).
+     */
+    static DateIdKey decodeDateId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value = decode(cursor);
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw invalid(cursor);
+        }
+        try {
+            return new DateIdKey(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    /**
+     * Decodes an id cursor. Returns 0 for a null cursor (first page).
+     */
+    static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String cursor) {
+        return new IllegalArgumentException("Invalid page cursor: " + cursor);
+    }
+
+    record DateIdKey(LocalDateTime date, Long id) {
+    }
+}
@@ -51,4 +51,8 @@ public class CreditApplicationEntity {
 
     @Column(name = "evaluation_date")
     private LocalDateTime evaluationDate;
+
+    // Also incremented by the JDBC status transitions of CreditApplicationRepositoryAdapter
+    @Version
+    private Long version;
 }
@@ -0,0 +1,39 @@
+package com.coopcredit.infrastructure.adapter.out.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of the credit application list views, with the affiliate
+ * fields they show. Built by a JPQL constructor expression ({@link #SELECT}),
+ * so Hibernate neither manages the result nor keeps a dirty-checking snapshot.
+ */
+public record CreditApplicationRow(
+        Long id,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        BigDecimal proposedRate,
+        LocalDateTime applicationDate,
+        String status,
+        Integer riskScore,
+        String riskLevel,
+        String decisionReason,
+        LocalDateTime evaluationDate,
+        Long version,
+        Long affiliateId,
+        String affiliateDocument,
+        String affiliateName) {
+
+    /**
+     * Select clause and join shared by every list query; callers append their
+     * where and order by clauses on {@code c} (application) and {@code a}
+     * (affiliate).
+     */
+    public static final String SELECT = """
+            select new com.coopcredit.infrastructure.adapter.out.persistence.projection.CreditApplicationRow(
+                   c.id, c.requestedAmount, c.termMonths, c.proposedRate, c.applicationDate, c.status,
+                   c.riskScore, c.riskLevel, c.decisionReason, c.evaluationDate, c.version,
+                   a.id, a.document, a.name)
+              from CreditApplicationEntity c join c.affiliate a
+            """;
+}
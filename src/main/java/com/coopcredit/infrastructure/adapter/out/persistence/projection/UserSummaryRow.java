@@ -0,0 +1,14 @@
+package com.coopcredit.infrastructure.adapter.out.persistence.projection;
+
+/**
+ * Read-only row of the admin user list: a user and the affiliate it is linked
+ * to, if any. Built by a JPQL constructor expression over a left join instead
+ * of loading the EAGER association of every user.
+ */
+public record UserSummaryRow(
+        Long id,
+        String username,
+        String role,
+        String affiliateDocument,
+        String affiliateName) {
+}
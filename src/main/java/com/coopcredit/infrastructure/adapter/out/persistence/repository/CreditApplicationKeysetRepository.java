@@ -0,0 +1,22 @@
+package com.coopcredit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.CreditApplicationRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom fragment of {@link SpringDataCreditApplicationRepository} for the
+ * dynamic, keyset-paginated listing query.
+ */
+public interface CreditApplicationKeysetRepository {
+
+    /**
+     * Returns up to {@code limit} applications matching the filter, ordered by
+     * application date and id descending, strictly after the given key (both
+     * null for the first page), as read-only rows.
+     */
+    List<CreditApplicationRow> findPage(CreditApplicationFilter filter, LocalDateTime afterDate, Long afterId,
+            int limit);
+}
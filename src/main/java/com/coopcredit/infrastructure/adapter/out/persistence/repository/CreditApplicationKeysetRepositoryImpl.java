@@ -0,0 +1,62 @@
+package com.coopcredit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.CreditApplicationRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class CreditApplicationKeysetRepositoryImpl implements CreditApplicationKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CreditApplicationRow> findPage(CreditApplicationFilter filter, LocalDateTime afterDate,
+            Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(CreditApplicationRow.SELECT).append(" where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.getStatus() != null) {
+            jpql.append(" and c.status = :status");
+            params.put("status", filter.getStatus().name());
+        }
+        if (filter.getAffiliateDocument() != null) {
+            jpql.append(" and a.document = :document");
+            params.put("document", filter.getAffiliateDocument());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" and c.applicationDate >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" and c.applicationDate < :to");
+            params.put("to", filter.getTo());
+        }
+        if (filter.getMinAmount() != null) {
+            jpql.append(" and c.requestedAmount >= :minAmount");
+            params.put("minAmount", filter.getMinAmount());
+        }
+        if (filter.getMaxAmount() != null) {
+            jpql.append(" and c.requestedAmount <= :maxAmount");
+            params.put("maxAmount", filter.getMaxAmount());
+        }
+        if (afterDate != null && afterId != null) {
+            // Row-value comparison: Postgres seeks straight into the (application_date, id) index
+            jpql.append(" and (c.applicationDate, c.id) < (:afterDate, :afterId)");
+            params.put("afterDate", afterDate);
+            params.put("afterId", afterId);
+        }
+        jpql.append(" order by c.applicationDate desc, c.id desc");
+
+        TypedQuery<CreditApplicationRow> query = entityManager.createQuery(jpql.toString(),
+                CreditApplicationRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
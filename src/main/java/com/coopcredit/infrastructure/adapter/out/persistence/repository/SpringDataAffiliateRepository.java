@@ -1,9 +1,16 @@
 package com.coopcredit.infrastructure.adapter.out.persistence.repository;
 
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataAffiliateRepository extends JpaRepository<AffiliateEntity, Long> {
     Optional<AffiliateEntity> findByDocument(String document);
+
+    // Keyset pagination over the primary key
+    List<AffiliateEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<AffiliateEntity> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long id, Limit limit);
 }
@@ -1,29 +1,39 @@
 package com.coopcredit.infrastructure.adapter.out.persistence.repository;
 
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.CreditApplicationRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.lang.NonNull;
 
-public interface SpringDataCreditApplicationRepository extends JpaRepository<CreditApplicationEntity, Long> {
+public interface SpringDataCreditApplicationRepository
+        extends JpaRepository<CreditApplicationEntity, Long>, CreditApplicationKeysetRepository {
 
     @Override
     @EntityGraph(attributePaths = "affiliate")
     @NonNull
-    List<CreditApplicationEntity> findAll();
+    Optional<CreditApplicationEntity> findById(@NonNull Long id);
 
     @Override
     @EntityGraph(attributePaths = "affiliate")
     @NonNull
-    Optional<CreditApplicationEntity> findById(@NonNull Long id);
+    List<CreditApplicationEntity> findAllById(@NonNull Iterable<Long> ids);
 
-    @EntityGraph(attributePaths = "affiliate")
-    List<CreditApplicationEntity> findByStatus(String status);
+    // List views read projections: nothing is attached to the persistence context
 
-    @EntityGraph(attributePaths = "affiliate")
-    List<CreditApplicationEntity> findByAffiliateDocument(String document);
-}
+    @Query(CreditApplicationRow.SELECT + " where c.status = :status")
+    List<CreditApplicationRow> findRowsByStatus(@Param("status") String status);
+
+    @Query(CreditApplicationRow.SELECT + " where c.status = :status order by c.applicationDate, c.id")
+    List<CreditApplicationRow> findRowsByStatusOrderByApplicationDateAscIdAsc(@Param("status") String status,
+            Limit limit);
 
+    @Query(CreditApplicationRow.SELECT + " where a.document = :document")
+    List<CreditApplicationRow> findRowsByAffiliateDocument(@Param("document") String document);
+}
@@ -1,9 +1,35 @@
 package com.coopcredit.infrastructure.adapter.out.persistence.repository;
 
 import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.UserSummaryRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataUserRepository extends JpaRepository<UserEntity, Long> {
+    // Affiliate in the same query; as a plain EAGER association it costs a second select
+    @EntityGraph(attributePaths = "affiliate")
     Optional<UserEntity> findByUsername(String username);
+
+    // Compare-and-set on the hash, for rehashing at login without overwriting a concurrent change
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.password = :newPassword where u.username = :username and u.password = :oldPassword")
+    int updatePassword(@Param("username") String username, @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
+
+    // One left join for all users; findAll() loads the EAGER affiliate with a select per linked user
+    @Transactional(readOnly = true)
+    @Query("""
+            select new com.coopcredit.infrastructure.adapter.out.persistence.projection.UserSummaryRow(
+                   u.id, u.username, u.role, a.document, a.name)
+              from UserEntity u left join u.affiliate a
+             order by u.id
+            """)
+    List<UserSummaryRow> findAllSummaries();
 }
@@ -0,0 +1,41 @@
+package com.coopcredit.infrastructure.configuration;
+
+import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.coopcredit.infrastructure.adapter.out.persistence.AffiliateRepositoryAdapter;
+import com.coopcredit.infrastructure.adapter.out.persistence.CachingAffiliateRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Assembles the AffiliateRepositoryPort used by the application: the JPA
+ * adapter, behind the document cache when enabled.
+ */
+@Configuration
+public class AffiliateRepositoryConfig {
+
+    @Bean
+    @Primary
+    public AffiliateRepositoryPort affiliateRepositoryPort(
+            AffiliateRepositoryAdapter affiliateRepositoryAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${affiliate.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${affiliate.cache.maximum-size:50000}") long cacheMaximumSize,
+            @Value("${affiliate.cache.ttl:10m}") Duration cacheTtl,
+            @Value("${affiliate.cache.negative-ttl:1m}") Duration cacheNegativeTtl) {
+        if (!cacheEnabled) {
+            return affiliateRepositoryAdapter;
+        }
+
+        CachingAffiliateRepositoryAdapter caching = new CachingAffiliateRepositoryAdapter(
+                affiliateRepositoryAdapter, cacheMaximumSize, cacheTtl, cacheNegativeTtl);
+        // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size under /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, caching.getCache(), "affiliates.by-document");
+        return caching;
+    }
+}
@@ -1,46 +1,67 @@
 package com.coopcredit.infrastructure.configuration;
 
 import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.coopcredit.infrastructure.configuration.security.AccountUserDetails;
+import com.coopcredit.infrastructure.configuration.security.RehashingBCryptPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class AppConfig {
 
     private final SpringDataUserRepository userRepository;
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-
     @Bean
     public UserDetailsService userDetailsService() {
+        // One query: the affiliate is fetched with the user for the token's affiliate claim
         return username -> userRepository.findByUsername(username)
-                .map(u -> org.springframework.security.core.userdetails.User.builder()
-                        .username(u.getUsername())
-                        .password(u.getPassword())
-                        .roles(u.getRole().replace("ROLE_", "")) // Spring adds prefix
-                        .build())
+                .map(u -> new AccountUserDetails(u.getUsername(), u.getPassword(), u.getRole(),
+                        u.getAffiliate() != null ? u.getAffiliate().getDocument() : null))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
+    /**
+     * Stores the hash made at the current cost after a successful login with a
+     * hash of another cost. Only replaces the hash that was checked, so a
+     * password changed meanwhile is kept; a failed write leaves the old hash for
+     * the next login rather than failing this one.
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            try {
+                if (userRepository.updatePassword(user.getUsername(), user.getPassword(), newPassword) == 0) {
+                    return user;
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not rehash the password of {}: {}", user.getUsername(), e.getMessage());
+                return user;
+            }
+            return user instanceof AccountUserDetails account ? account.withPassword(newPassword) : user;
+        };
+    }
+
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder, UserDetailsPasswordService userDetailsPasswordService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsService(userDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -49,8 +70,12 @@ public class AppConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt cost: each step doubles the CPU of a login. Hashes stored at
+     * another cost are rehashed on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new RehashingBCryptPasswordEncoder(strength);
     }
 }
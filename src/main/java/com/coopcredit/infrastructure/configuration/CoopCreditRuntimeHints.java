@@ -0,0 +1,75 @@
+package com.coopcredit.infrastructure.configuration;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection hints for the GraalVM native image (native profile). Spring AOT
+ * already covers controller signatures, JPA managed types and configuration
+ * properties; these are the types it cannot see: the domain model and DTOs
+ * Jackson binds elsewhere (idempotent responses, risk-central calls, Lombok
+ * builders and accessors), the entities and JPQL constructor projections
+ * Hibernate instantiates, and the jjwt implementation classes its API loads
+ * by name.
+ */
+public class CoopCreditRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> BINDING_PACKAGES = List.of(
+            "com.coopcredit.domain.model",
+            "com.coopcredit.infrastructure.adapter.in.web.dto",
+            "com.coopcredit.infrastructure.adapter.out.external.dto");
+
+    static final List<String> PERSISTENCE_PACKAGES = List.of(
+            "com.coopcredit.infrastructure.adapter.out.persistence.entity",
+            "com.coopcredit.infrastructure.adapter.out.persistence.projection");
+
+    // Jwts, CompressionCodecs and the ServiceLoader lookups instantiate these reflectively
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String basePackage : BINDING_PACKAGES) {
+            for (Class<?> type : typesIn(basePackage, classLoader)) {
+                bindingHints.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+        for (String basePackage : PERSISTENCE_PACKAGES) {
+            for (Class<?> type : typesIn(basePackage, classLoader)) {
+                hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+        }
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerTypeIfPresent(classLoader, type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+
+    private static List<Class<?>> typesIn(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        return scanner.findCandidateComponents(basePackage).stream()
+                .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                .toList();
+    }
+}
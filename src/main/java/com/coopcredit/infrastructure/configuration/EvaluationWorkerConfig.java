@@ -0,0 +1,32 @@
+package com.coopcredit.infrastructure.configuration;
+
+import com.coopcredit.domain.port.in.ProcessCreditApplicationUseCase;
+import com.coopcredit.infrastructure.adapter.in.worker.EvaluationQueueWorker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Automatic evaluation of PENDING applications, off unless
+ * evaluation.worker.enabled=true. Every node that enables it competes for the
+ * same queue; throughput grows with threads x nodes until the risk central or
+ * spring.task.execution.pool.* (which runs the risk calls of each chunk) is the limit.
+ */
+@Configuration
+public class EvaluationWorkerConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "evaluation.worker.enabled", havingValue = "true")
+    public EvaluationQueueWorker evaluationQueueWorker(
+            ProcessCreditApplicationUseCase processCreditApplicationUseCase,
+            @Value("${evaluation.worker.threads:2}") int threads,
+            @Value("${evaluation.worker.chunk-size:20}") int chunkSize,
+            @Value("${evaluation.worker.idle-delay:1s}") Duration idleDelay,
+            @Value("${evaluation.worker.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        return new EvaluationQueueWorker(processCreditApplicationUseCase, threads, chunkSize, idleDelay,
+                shutdownTimeout);
+    }
+}
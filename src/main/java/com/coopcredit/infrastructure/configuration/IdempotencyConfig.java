@@ -0,0 +1,68 @@
+package com.coopcredit.infrastructure.configuration;
+
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import com.coopcredit.infrastructure.adapter.in.web.IdempotencyKeyFilter;
+import com.coopcredit.infrastructure.adapter.in.worker.IdempotencyKeyCleaner;
+import com.coopcredit.infrastructure.adapter.out.persistence.CachingIdempotencyStoreAdapter;
+import com.coopcredit.infrastructure.adapter.out.persistence.IdempotencyStoreAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key handling: the shared Postgres store behind a node-local
+ * cache, the servlet filter that uses it and the TTL cleanup.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @Primary
+    public IdempotencyStorePort idempotencyStorePort(
+            IdempotencyStoreAdapter idempotencyStoreAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${idempotency.cache.ttl:10m}") Duration cacheTtl) {
+        // Never serve from memory a response the shared store has already dropped
+        CachingIdempotencyStoreAdapter caching = new CachingIdempotencyStoreAdapter(
+                idempotencyStoreAdapter, cacheMaximumSize, cacheTtl.compareTo(ttl) < 0 ? cacheTtl : ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, caching.getCache(), "idempotency.responses");
+        return caching;
+    }
+
+    /**
+     * Registered after the Spring Security chain so the caller is known when
+     * the key is scoped.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            IdempotencyStorePort idempotencyStorePort,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.lock-timeout:1m}") Duration lockTimeout,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+            @Value("${idempotency.max-body-size:1MB}") DataSize maxBodySize) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyKeyFilter(idempotencyStorePort, objectMapper, meterRegistry, ttl, lockTimeout,
+                        waitTimeout, maxBodySize.toBytes()));
+        registration.addUrlPatterns("/api/solicitudes", "/api/solicitudes/*");
+        return registration;
+    }
+
+    @Bean
+    public IdempotencyKeyCleaner idempotencyKeyCleaner(
+            IdempotencyStorePort idempotencyStorePort,
+            @Value("${idempotency.cleanup-interval:10m}") Duration cleanupInterval) {
+        return new IdempotencyKeyCleaner(idempotencyStorePort, cleanupInterval);
+    }
+}
@@ -0,0 +1,148 @@
+package com.coopcredit.infrastructure.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * HTTP clients used to call the risk central: keep-alive connection pools with
+ * bounded connect, pool-wait and response times, instrumented in Micrometer.
+ * The classic client backs the blocking calls; the async one backs
+ * evaluateRiskAsync, where a few I/O threads serve every call in flight.
+ */
+@Configuration
+public class RiskHttpClientConfig {
+
+    static final String CLIENT_NAME = "risk-service";
+    static final String ASYNC_CLIENT_NAME = "risk-service-async";
+
+    @Value("${risk.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${risk.http.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${risk.http.read-timeout:3s}")
+    private Duration readTimeout;
+
+    @Value("${risk.http.pool-timeout:500ms}")
+    private Duration poolTimeout;
+
+    @Value("${risk.http.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    @Value("${risk.http.time-to-live:5m}")
+    private Duration timeToLive;
+
+    @Bean
+    public CloseableHttpClient riskHttpClient(MeterRegistry meterRegistry) {
+        TimedConnectionManager connectionManager = new TimedConnectionManager(
+                Timer.builder("httpcomponents.httpclient.connect")
+                        .description("Time to open a new connection to the risk service")
+                        .tag("httpclient", CLIENT_NAME)
+                        .register(meterRegistry));
+        // Every call goes to the same host, so one route may use the whole pool
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setDefaultConnectionConfig(connectionConfig());
+        // Exposes httpcomponents.httpclient.pool.total.{max,connections{state=leased|available},pending}
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CLIENT_NAME).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+    }
+
+    /**
+     * Non-blocking client: requests wait for a connection or an answer without a
+     * thread, so calls in flight are bounded by the pool, not by threads. Started
+     * here and closed with the context.
+     */
+    @Bean
+    public CloseableHttpAsyncClient riskHttpAsyncClient(MeterRegistry meterRegistry) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, ASYNC_CLIENT_NAME).bindTo(meterRegistry);
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+        client.start();
+        return client;
+    }
+
+    private ConnectionConfig connectionConfig() {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate riskRestTemplate(RestTemplateBuilder builder, CloseableHttpClient riskHttpClient) {
+        // Built from Boot's builder so calls are also observed as http.client.requests
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(riskHttpClient))
+                .build();
+    }
+
+    // Records how long new connections take to open; reused keep-alive connections skip connect()
+    static class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer connectTimer;
+
+        TimedConnectionManager(Timer connectTimer) {
+            this.connectTimer = connectTimer;
+        }
+
+        @Override
+        public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.connect(endpoint, timeout, context);
+            } finally {
+                connectTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.coopcredit.infrastructure.configuration;
+
+import com.coopcredit.domain.port.out.RiskServicePort;
+import com.coopcredit.infrastructure.adapter.out.external.CachingRiskServiceAdapter;
+import com.coopcredit.infrastructure.adapter.out.external.CircuitBreakerRiskServiceAdapter;
+import com.coopcredit.infrastructure.adapter.out.external.HedgingRiskServiceAdapter;
+import com.coopcredit.infrastructure.adapter.out.external.RiskServiceAdapter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Assembles the RiskServicePort used by the application: the HTTP adapter,
+ * wrapped by the decorators enabled in configuration.
+ */
+@Slf4j
+@Configuration
+public class RiskServiceConfig {
+
+    static final String CIRCUIT_BREAKER_NAME = "riskService";
+
+    @Bean
+    @Primary
+    public RiskServicePort riskServicePort(
+            RiskServiceAdapter riskServiceAdapter,
+            CircuitBreaker riskCircuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${risk.hedging.enabled:true}") boolean hedgingEnabled,
+            @Value("${risk.hedging.percentile:95}") double hedgingPercentile,
+            @Value("${risk.hedging.min-delay:50ms}") Duration hedgingMinDelay,
+            @Value("${risk.hedging.max-in-flight:10}") int hedgingMaxInFlight,
+            @Value("${risk.hedging.window-size:1000}") int hedgingWindowSize,
+            @Value("${risk.circuit-breaker.enabled:true}") boolean circuitBreakerEnabled,
+            @Value("${risk.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${risk.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${risk.cache.ttl:10m}") Duration cacheTtl,
+            @Value("${risk.cache.amount-bucket:0}") BigDecimal cacheAmountBucket,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        RiskServicePort port = riskServiceAdapter;
+
+        // Below the breaker, so a hedged evaluation counts as one call with the latency the caller saw
+        if (hedgingEnabled) {
+            port = new HedgingRiskServiceAdapter(port, hedgingExecutor(virtualThreads), hedgingPercentile, hedgingMinDelay,
+                    hedgingMaxInFlight, hedgingWindowSize, meterRegistry);
+        }
+
+        // Below the cache, so cache hits keep being served and never count as calls while the breaker is open
+        if (circuitBreakerEnabled) {
+            port = new CircuitBreakerRiskServiceAdapter(port, riskCircuitBreaker);
+        }
+
+        if (cacheEnabled) {
+            CachingRiskServiceAdapter caching = new CachingRiskServiceAdapter(
+                    port, cacheMaximumSize, cacheTtl, cacheAmountBucket);
+            // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size under /actuator/metrics
+            CaffeineCacheMetrics.monitor(meterRegistry, caching.getCache(), "risk.evaluations");
+            port = caching;
+        }
+
+        return port;
+    }
+
+    /**
+     * Threads that run hedged blocking risk calls, and that send the hedge of an
+     * async call once its delay expires. Kept apart from the application task
+     * executor, which writes the decisions of async evaluations, and not a bean
+     * because any Executor bean makes Boot back off from creating
+     * applicationTaskExecutor. Daemon threads, each bounded by the HTTP client's
+     * read timeout; virtual ones, one per call, in virtual-thread mode.
+     */
+    private static ExecutorService hedgingExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("risk-hedge-", 0).factory());
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("risk-hedge-");
+        threadFactory.setDaemon(true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    @Bean
+    public CircuitBreaker riskCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${risk.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${risk.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${risk.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+            @Value("${risk.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${risk.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${risk.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitDurationInOpenState,
+            @Value("${risk.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .build());
+        // Exposes resilience4j.circuitbreaker.{state,calls,failure.rate,slow.call.rate,not.permitted.calls}
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Risk service circuit breaker: {}", event.getStateTransition());
+            meterRegistry.counter("resilience4j.circuitbreaker.transitions",
+                    "name", event.getCircuitBreakerName(),
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+        });
+        return circuitBreaker;
+    }
+}
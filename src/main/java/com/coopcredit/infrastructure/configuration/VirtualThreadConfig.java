@@ -0,0 +1,55 @@
+package com.coopcredit.infrastructure.configuration;
+
+import com.coopcredit.CoopCreditApplication;
+import com.coopcredit.infrastructure.adapter.in.web.ConcurrencyLimitFilter;
+import com.coopcredit.infrastructure.adapter.out.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Virtual-thread mode, on with spring.threads.virtual.enabled=true. Boot then
+ * runs Tomcat requests and applicationTaskExecutor tasks on virtual threads, and
+ * RiskServiceConfig the hedged risk calls. A request blocked on JDBC or on the
+ * risk central no longer holds a platform thread, so concurrency is bounded by
+ * the connection pools instead of server.tomcat.threads.max. The API keeps a cap
+ * on requests in progress ({@link ConcurrencyLimitFilter}) and blocking while
+ * pinned to a carrier is reported by {@link VirtualThreadPinningMonitor}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold,
+                CoopCreditApplication.class.getPackageName());
+    }
+
+    /**
+     * Ahead of the Spring Security chain, so requests over the cap do not parse
+     * their token until they get a slot. Actuator endpoints are not limited.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.max-concurrent-requests:200}") int maxConcurrentRequests) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxConcurrentRequests, meterRegistry));
+        registration.addUrlPatterns("/api/*", "/auth/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,36 @@
+package com.coopcredit.infrastructure.configuration.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+/**
+ * User loaded for a password login. Besides the credentials it carries the role
+ * and linked affiliate the token needs, so login issues the token from the
+ * authenticated principal instead of loading the user a second time.
+ * {@code affiliateDocument} is null for users not linked to an affiliate.
+ */
+public class AccountUserDetails extends User {
+
+    private final String role;
+    private final String affiliateDocument;
+
+    public AccountUserDetails(String username, String password, String role, String affiliateDocument) {
+        super(username, password, List.of(new SimpleGrantedAuthority(role)));
+        this.role = role;
+        this.affiliateDocument = affiliateDocument;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getAffiliateDocument() {
+        return affiliateDocument;
+    }
+
+    public AccountUserDetails withPassword(String password) {
+        return new AccountUserDetails(getUsername(), password, role, affiliateDocument);
+    }
+}
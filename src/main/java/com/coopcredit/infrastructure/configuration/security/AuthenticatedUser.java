@@ -0,0 +1,17 @@
+package com.coopcredit.infrastructure.configuration.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal rebuilt from JWT claims on each request, so authenticated calls
+ * need no user lookup. {@code affiliateDocument} is null for users not linked
+ * to an affiliate.
+ */
+public record AuthenticatedUser(String username, String role, String affiliateDocument)
+        implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,5 +1,8 @@
 package com.coopcredit.infrastructure.configuration.security;
 
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,14 +10,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -29,32 +36,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
-        jwt = authHeader.substring(7);
+        final String jwt = authHeader.substring(7);
+
+        // Time spent authenticating the token only, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        UsernamePasswordAuthenticationToken authToken;
         try {
-            userEmail = jwtService.extractUsername(jwt);
-        } catch (Exception e) {
+            authToken = authenticate(jwt);
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            sample.stop(filterTimer("invalid"));
             // Invalid token, proceed without authentication
             filterChain.doFilter(request, response);
             return;
         }
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities());
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
-        }
+        sample.stop(filterTimer("authenticated"));
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
         filterChain.doFilter(request, response);
     }
+
+    private Timer filterTimer(String result) {
+        return Timer.builder("security.jwt.filter")
+                .description("Bearer token authentication time")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String jwt) {
+        // Role and affiliate come from the signed claims: no database access on this path
+        AuthenticatedUser user = jwtService.authenticate(jwt);
+        if (user != null) {
+            return new UsernamePasswordAuthenticationToken(user, null,
+                    List.of(new SimpleGrantedAuthority(user.role())));
+        }
+
+        // Tokens issued before role claims existed: resolve the user once more until they expire
+        UserDetails userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
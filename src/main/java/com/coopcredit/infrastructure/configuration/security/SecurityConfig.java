@@ -24,6 +24,9 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatch completing a streamed response: the original request was
+                        // already authorized and the JWT filter does not run again
+                        .dispatcherTypeMatchers(jakarta.servlet.DispatcherType.ASYNC).permitAll()
                         // Public Endpoints
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/risk-evaluation").permitAll()
@@ -32,7 +35,8 @@ public class SecurityConfig {
                         .requestMatchers("/", "/index.html", "/css/**", "/js/**").permitAll() // Frontend resources
 
                         // Affiliates - Creation/Update only by internal staff
-                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/afiliados")
+                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/afiliados",
+                                "/api/afiliados/importar")
                         .hasAnyRole("ADMIN", "ANALISTA")
                         .requestMatchers(org.springframework.http.HttpMethod.PUT, "/api/afiliados/**")
                         .hasAnyRole("ADMIN", "ANALISTA")
@@ -47,6 +51,14 @@ public class SecurityConfig {
                         // Evaluation endpoint - Only ANALISTA can evaluate pending applications
                         .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/solicitudes/*/evaluar")
                         .hasRole("ANALISTA")
+                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/solicitudes/evaluar-lote")
+                        .hasRole("ANALISTA")
+                        // Full export - internal staff only
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/solicitudes/exportar")
+                        .hasAnyRole("ADMIN", "ANALISTA")
+                        // Portfolio statistics - internal staff only
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/solicitudes/estadisticas")
+                        .hasAnyRole("ADMIN", "ANALISTA")
                         // Pending applications list - Only ANALISTA
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/solicitudes/pendientes")
                         .hasRole("ANALISTA")
@@ -0,0 +1,14 @@
+-- Keyset pagination: listings seek on (application_date, id) instead of OFFSET scans
+CREATE INDEX idx_credit_applications_date_id
+    ON credit_applications(application_date DESC, id DESC);
+
+-- Same order within a status filter
+CREATE INDEX idx_credit_applications_status_date_id
+    ON credit_applications(status, application_date DESC, id DESC);
+
+-- Same order within one affiliate's applications
+CREATE INDEX idx_credit_applications_affiliate_date_id
+    ON credit_applications(affiliate_id, application_date DESC, id DESC);
+
+-- Affiliates are paginated by id within a status filter
+CREATE INDEX idx_affiliates_status_id ON affiliates(status, id);
@@ -0,0 +1,5 @@
+-- /pendientes and batch evaluation read the PENDING queue oldest first. The partial index holds only
+-- pending rows, so it stays small and hot however many decided applications accumulate
+CREATE INDEX idx_credit_applications_pending_date_id
+    ON credit_applications(application_date, id)
+    WHERE status = 'PENDING';
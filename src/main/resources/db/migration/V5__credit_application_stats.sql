@@ -0,0 +1,31 @@
+-- Running totals behind GET /api/solicitudes/estadisticas, maintained by the persistence adapter in the
+-- same transaction as each new application and each decision. One row per month, status, risk level,
+-- score band and slot: writers pick a random slot so concurrent transactions rarely wait on the same row,
+-- and readers sum the slots. Rows only hold deltas, so a slot may go negative; the sum never does.
+-- EVALUATING is an internal claim and is counted as PENDING.
+CREATE TABLE credit_application_stats (
+    period_month DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    risk_level VARCHAR(20) NOT NULL,
+    -- Lower bound of the 100-point score band, -1 while there is no score
+    score_band INTEGER NOT NULL,
+    slot SMALLINT NOT NULL,
+    application_count BIGINT NOT NULL,
+    requested_amount_sum DECIMAL(23, 2) NOT NULL,
+    risk_score_sum BIGINT NOT NULL,
+    PRIMARY KEY (period_month, status, risk_level, score_band, slot)
+);
+
+INSERT INTO credit_application_stats (period_month, status, risk_level, score_band, slot,
+                                      application_count, requested_amount_sum, risk_score_sum)
+SELECT date_trunc('month', application_date)::date,
+       CASE WHEN status = 'EVALUATING' THEN 'PENDING' ELSE status END,
+       CASE WHEN status IN ('APPROVED', 'REJECTED') THEN COALESCE(risk_level, '') ELSE '' END,
+       CASE WHEN status IN ('APPROVED', 'REJECTED') AND risk_score IS NOT NULL
+            THEN risk_score / 100 * 100 ELSE -1 END,
+       0,
+       count(*),
+       sum(requested_amount),
+       COALESCE(sum(risk_score) FILTER (WHERE status IN ('APPROVED', 'REJECTED')), 0)
+  FROM credit_applications
+ GROUP BY 1, 2, 3, 4;
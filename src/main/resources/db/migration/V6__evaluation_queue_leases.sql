@@ -0,0 +1,15 @@
+-- Evaluation work queue. A claim (PENDING -> EVALUATING) holds a lease until lease_expires_at; a node that
+-- dies mid-evaluation leaves the row to be reclaimed once the lease runs out. A failed evaluation goes back
+-- to PENDING with next_attempt_at pushed out by a backoff that grows with evaluation_attempts.
+ALTER TABLE credit_applications
+    ADD COLUMN lease_expires_at TIMESTAMP,
+    ADD COLUMN next_attempt_at TIMESTAMP,
+    ADD COLUMN evaluation_attempts INTEGER NOT NULL DEFAULT 0;
+
+-- Claims left by earlier versions had no lease: let them expire right away
+UPDATE credit_applications SET lease_expires_at = now() WHERE status = 'EVALUATING';
+
+-- Expired-lease sweep; only in-flight claims are indexed
+CREATE INDEX idx_credit_applications_evaluating_lease
+    ON credit_applications(lease_expires_at)
+    WHERE status = 'EVALUATING';
@@ -0,0 +1,18 @@
+-- Idempotency-Key records shared by every node. A row without response_status is a request still in
+-- progress; its expires_at is a short lock lease, so a node that dies mid-request does not block the
+-- key. Completed rows keep the response until expires_at (the replay TTL).
+CREATE TABLE idempotency_keys (
+    scope VARCHAR(100) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_status INTEGER,
+    response_content_type VARCHAR(255),
+    response_location VARCHAR(255),
+    response_body BYTEA,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (scope, idempotency_key)
+);
+
+-- TTL cleanup
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
@@ -0,0 +1,5 @@
+-- Optimistic locking for credit applications. JPA checks and increments the version on every entity
+-- update; the JDBC status transitions (claim, release, decision) increment it too, so an entity read
+-- before one of them can no longer be written back over it.
+ALTER TABLE credit_applications
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
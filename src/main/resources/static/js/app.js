@@ -35,6 +35,7 @@ function showSection(sectionId) {
     document.querySelector(`[data-target="${sectionId}"]`)?.classList.add('active');
 
     // Load Data
+    if (sectionId === 'dashboard') loadStatistics();
     if (sectionId === 'affiliates') loadAffiliates();
     if (sectionId === 'credits') loadCredits();
 }
@@ -85,7 +86,7 @@ async function loadAffiliates() {
     try {
         const res = await fetchAuth(`${API_BASE}/api/afiliados`);
         if (!res.ok) throw new Error('Failed to load');
-        const affiliates = await res.json();
+        const { items: affiliates } = await res.json();
 
         const tbody = document.getElementById('affiliatesTableBody');
         tbody.innerHTML = affiliates.map(af => `
@@ -138,11 +139,35 @@ document.getElementById('affiliateForm').addEventListener('submit', async (e) =>
 });
 
 // CREDITS
+// Portfolio totals come precomputed from the server; the card stays hidden for roles without access
+async function loadStatistics() {
+    const card = document.getElementById('portfolioStatsCard');
+    try {
+        const res = await fetchAuth(`${API_BASE}/api/solicitudes/estadisticas`);
+        if (!res.ok) {
+            card.classList.add('hidden');
+            return;
+        }
+        const { total } = await res.json();
+        const byStatus = total.byStatus;
+        document.getElementById('portfolioStatsBody').innerHTML = `
+            ${total.count} solicitudes por $${total.requestedAmountSum.toLocaleString()}
+            (promedio $${(total.requestedAmountAverage ?? 0).toLocaleString()})<br>
+            <span class="badge ${getStatusBadge('PENDING')}">PENDING ${byStatus.PENDING.count}</span>
+            <span class="badge ${getStatusBadge('APPROVED')}">APPROVED ${byStatus.APPROVED.count}</span>
+            <span class="badge ${getStatusBadge('REJECTED')}">REJECTED ${byStatus.REJECTED.count}</span>
+        `;
+        card.classList.remove('hidden');
+    } catch (err) {
+        console.error(err);
+    }
+}
+
 async function loadCredits() {
     try {
         const res = await fetchAuth(`${API_BASE}/api/solicitudes`);
         if (!res.ok) throw new Error('Failed to load');
-        const credits = await res.json();
+        const { items: credits } = await res.json();
 
         const tbody = document.getElementById('creditsTableBody');
         tbody.innerHTML = credits.map(cr => `
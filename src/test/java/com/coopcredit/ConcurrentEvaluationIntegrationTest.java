@@ -0,0 +1,201 @@
+package com.coopcredit;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataCreditApplicationRepository;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.coopcredit.infrastructure.configuration.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Many clients evaluate the same application at once: the conditional claim
+ * lets one of them reach the risk central and answers the others 409 right
+ * away, instead of letting each one pay for its own remote call.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false"
+})
+class ConcurrentEvaluationIntegrationTest {
+
+    private static final int CONCURRENT_CALLERS = 16;
+    private static final long RISK_LATENCY_MS = 500;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SpringDataAffiliateRepository affiliateRepository;
+
+    @Autowired
+    private SpringDataCreditApplicationRepository creditRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RiskServicePort riskServicePort;
+
+    @Test
+    void onlyOneConcurrentEvaluationReachesTheRiskService() throws Exception {
+        // Slow enough that every loser arrives while the winner is still waiting on the remote call
+        when(riskServicePort.evaluateRisk(any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(RISK_LATENCY_MS);
+            return RiskEvaluation.builder().score(800).riskLevel("BAJO").decisionReason("contention")
+                    .evaluationDate(LocalDateTime.now()).build();
+        });
+        // The endpoint calls the async variant; let the port's default run the stub above
+        when(riskServicePort.evaluateRiskAsync(any(), any(), any())).thenCallRealMethod();
+        Long id = pendingApplication().getId();
+        HttpEntity<Void> auth = analystAuth();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        List<Future<ResponseEntity<Map>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+            responses.add(callers.submit(() -> {
+                start.await();
+                return restTemplate.exchange("/api/solicitudes/" + id + "/evaluar", HttpMethod.POST, auth,
+                        Map.class);
+            }));
+        }
+        start.countDown();
+
+        int evaluated = 0;
+        int conflicts = 0;
+        for (Future<ResponseEntity<Map>> response : responses) {
+            HttpStatus status = HttpStatus.valueOf(response.get(30, TimeUnit.SECONDS).getStatusCode().value());
+            if (status == HttpStatus.OK) {
+                evaluated++;
+            } else {
+                assertThat(status).isEqualTo(HttpStatus.CONFLICT);
+                conflicts++;
+            }
+        }
+        callers.shutdown();
+
+        assertThat(evaluated).isEqualTo(1);
+        assertThat(conflicts).isEqualTo(CONCURRENT_CALLERS - 1);
+        verify(riskServicePort, times(1)).evaluateRisk(any(), any(), any());
+
+        CreditApplicationEntity stored = creditRepository.findById(id).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo("APPROVED");
+        // Claim and decision, one increment each
+        assertThat(stored.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void staleCopyCannotOverwriteAnEvaluatedApplication() {
+        when(riskServicePort.evaluateRisk(any(), any(), any())).thenReturn(RiskEvaluation.builder().score(300)
+                .riskLevel("ALTO").decisionReason("stale").evaluationDate(LocalDateTime.now()).build());
+        when(riskServicePort.evaluateRiskAsync(any(), any(), any())).thenCallRealMethod();
+        Long id = pendingApplication().getId();
+        CreditApplication stale = creditApplicationRepository.findById(id).orElseThrow();
+
+        ResponseEntity<Map> response = restTemplate.exchange("/api/solicitudes/" + id + "/evaluar",
+                HttpMethod.POST, analystAuth(), Map.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        stale.setTermMonths(24);
+        assertThatThrownBy(() -> creditApplicationRepository.save(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(creditRepository.findById(id).orElseThrow().getStatus()).isEqualTo("REJECTED");
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverByTheNextEvaluation() {
+        when(riskServicePort.evaluateRisk(any(), any(), any())).thenReturn(RiskEvaluation.builder().score(800)
+                .riskLevel("BAJO").decisionReason("recovered").evaluationDate(LocalDateTime.now()).build());
+        when(riskServicePort.evaluateRiskAsync(any(), any(), any())).thenCallRealMethod();
+        Long expired = pendingApplication().getId();
+        Long live = pendingApplication().getId();
+        // As a node that crashed mid-evaluation leaves them, with the workers off nothing else recovers them
+        jdbcTemplate.update("UPDATE credit_applications SET status = 'EVALUATING', "
+                + "lease_expires_at = now() - interval '1 minute' WHERE id = ?", expired);
+        jdbcTemplate.update("UPDATE credit_applications SET status = 'EVALUATING', "
+                + "lease_expires_at = now() + interval '1 minute' WHERE id = ?", live);
+        HttpEntity<Void> auth = analystAuth();
+
+        ResponseEntity<Map> recovered = restTemplate.exchange("/api/solicitudes/" + expired + "/evaluar",
+                HttpMethod.POST, auth, Map.class);
+        ResponseEntity<Map> held = restTemplate.exchange("/api/solicitudes/" + live + "/evaluar",
+                HttpMethod.POST, auth, Map.class);
+
+        assertThat(recovered.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(creditRepository.findById(expired).orElseThrow().getStatus()).isEqualTo("APPROVED");
+        assertThat(held.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(creditRepository.findById(live).orElseThrow().getStatus()).isEqualTo("EVALUATING");
+    }
+
+    private CreditApplicationEntity pendingApplication() {
+        String suffix = String.valueOf(System.nanoTime());
+        AffiliateEntity affiliate = affiliateRepository.save(AffiliateEntity.builder()
+                .document(suffix.substring(suffix.length() - 10))
+                .name("Contention Test")
+                .salary(new BigDecimal("5000000"))
+                .affiliationDate(LocalDate.now().minusYears(2))
+                .status("ACTIVE")
+                .build());
+        return creditRepository.save(CreditApplicationEntity.builder()
+                .affiliate(affiliate)
+                .requestedAmount(new BigDecimal("1000000"))
+                .termMonths(12)
+                .applicationDate(LocalDateTime.now())
+                .status("PENDING")
+                .build());
+    }
+
+    private HttpEntity<Void> analystAuth() {
+        String analyst = "analyst_" + System.nanoTime();
+        userRepository.save(UserEntity.builder().username(analyst).password("n/a").role("ROLE_ANALISTA").build());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateToken(analyst, "ROLE_ANALISTA", null));
+        return new HttpEntity<>(headers);
+    }
+}
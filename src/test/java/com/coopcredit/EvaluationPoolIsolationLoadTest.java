@@ -0,0 +1,153 @@
+package com.coopcredit;
+
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.AffiliateEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataCreditApplicationRepository;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.coopcredit.infrastructure.configuration.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test: while many evaluations wait on a slow risk central, read endpoints
+ * must keep their latency. The pool is shrunk to 4 connections so that holding a
+ * connection across the remote call would starve reads immediately.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.minimum-idle=4",
+        "spring.datasource.hikari.connection-timeout=10000",
+        "spring.jpa.show-sql=false"
+})
+class EvaluationPoolIsolationLoadTest {
+
+    private static final int CONCURRENT_EVALUATIONS = 20;
+    private static final long RISK_LATENCY_MS = 1500;
+    private static final int READ_SAMPLES = 40;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SpringDataAffiliateRepository affiliateRepository;
+
+    @Autowired
+    private SpringDataCreditApplicationRepository creditRepository;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockBean
+    private RiskServicePort riskServicePort;
+
+    @Test
+    void readLatencyStaysFlatWhileRiskServiceIsSlow() throws Exception {
+        when(riskServicePort.evaluateRisk(any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(RISK_LATENCY_MS);
+            return RiskEvaluation.builder().score(800).riskLevel("BAJO").decisionReason("slow")
+                    .evaluationDate(LocalDateTime.now()).build();
+        });
+        // The endpoint calls the async variant; let the port's default run the stub above
+        when(riskServicePort.evaluateRiskAsync(any(), any(), any())).thenCallRealMethod();
+
+        String suffix = String.valueOf(System.nanoTime());
+        AffiliateEntity affiliate = affiliateRepository.save(AffiliateEntity.builder()
+                .document(suffix.substring(suffix.length() - 10))
+                .name("Load Test")
+                .salary(new BigDecimal("5000000"))
+                .affiliationDate(LocalDate.now().minusYears(2))
+                .status("ACTIVE")
+                .build());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_EVALUATIONS; i++) {
+            ids.add(creditRepository.save(CreditApplicationEntity.builder()
+                    .affiliate(affiliate)
+                    .requestedAmount(new BigDecimal("1000000"))
+                    .termMonths(12)
+                    .applicationDate(LocalDateTime.now())
+                    .status("PENDING")
+                    .build()).getId());
+        }
+
+        String analyst = "analyst_" + suffix;
+        userRepository.save(UserEntity.builder().username(analyst).password("n/a").role("ROLE_ANALISTA").build());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateToken(analyst, "ROLE_ANALISTA", null));
+        HttpEntity<Void> auth = new HttpEntity<>(headers);
+        String readUrl = "/api/solicitudes/" + ids.get(0);
+
+        List<Long> idle = sampleReadLatencies(readUrl, auth);
+
+        ExecutorService evaluators = Executors.newFixedThreadPool(CONCURRENT_EVALUATIONS);
+        List<Future<ResponseEntity<Map>>> evaluations = new ArrayList<>();
+        for (Long id : ids) {
+            evaluations.add(evaluators.submit(() -> restTemplate.exchange(
+                    "/api/solicitudes/" + id + "/evaluar", HttpMethod.POST, auth, Map.class)));
+        }
+        Thread.sleep(200); // let every evaluation reach the risk call
+        List<Long> underLoad = sampleReadLatencies(readUrl, auth);
+
+        for (Future<ResponseEntity<Map>> evaluation : evaluations) {
+            assertThat(evaluation.get(30, TimeUnit.SECONDS).getStatusCode().is2xxSuccessful()).isTrue();
+        }
+        evaluators.shutdown();
+
+        long idleP95 = percentile(idle, 95);
+        long loadedP95 = percentile(underLoad, 95);
+        // With the connection held across the remote call, reads would wait ~RISK_LATENCY_MS for the pool
+        assertThat(loadedP95)
+                .as("read p95 with %d slow evaluations in flight (idle p95 %dms, idle samples %s, loaded samples %s)",
+                        CONCURRENT_EVALUATIONS, idleP95, idle, underLoad)
+                .isLessThan(Math.max(idleP95 * 3, 250));
+    }
+
+    private List<Long> sampleReadLatencies(String url, HttpEntity<Void> auth) {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < READ_SAMPLES; i++) {
+            long start = System.nanoTime();
+            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, auth, Map.class);
+            latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        }
+        return latencies;
+    }
+
+    private long percentile(List<Long> samples, int percentile) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
@@ -0,0 +1,240 @@
+package com.coopcredit;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.infrastructure.adapter.out.persistence.CreditApplicationRepositoryAdapter;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataCreditApplicationRepository;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Query plan regression suite. Seeds a production-sized dataset, runs every
+ * Spring Data finder and the evaluation queue statements, captures the SQL and
+ * bind values actually sent and EXPLAINs them with the same values. A sequential scan on any application
+ * table fails the build, so a dropped index or a finder that no longer matches
+ * one is caught here rather than in production.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({ TestcontainersConfiguration.class, QueryPlanRegressionTest.StatementCaptureConfiguration.class })
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+class QueryPlanRegressionTest {
+
+    private static final int AFFILIATES = 100_000;
+    private static final int APPLICATIONS = 400_000;
+    private static final Set<String> TABLES = Set.of("affiliates", "credit_applications", "users");
+    private static final StatementCapture CAPTURE = new StatementCapture();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private SpringDataAffiliateRepository affiliateRepository;
+
+    @Autowired
+    private SpringDataCreditApplicationRepository creditRepository;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private CreditApplicationRepositoryAdapter creditAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        // 10% inactive affiliates; 0.05% of applications PENDING (a short queue), the rest decided, over ~18 months
+        jdbcTemplate.update("""
+                INSERT INTO affiliates (document, name, salary, affiliation_date, status)
+                SELECT lpad(g::text, 10, '0'), 'Afiliado ' || g, 3000000 + (g % 50) * 100000,
+                       DATE '2015-01-01' + g % 3000, CASE WHEN g % 10 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END
+                  FROM generate_series(1, ?) g
+                """, AFFILIATES);
+        jdbcTemplate.update("""
+                INSERT INTO credit_applications (affiliate_id, requested_amount, term_months, application_date,
+                                                 status, risk_score, risk_level)
+                SELECT a.first_id + g % ?, 1000000 + (g % 40) * 250000, 12 + g % 4 * 12,
+                       TIMESTAMP '2024-01-01' + g * INTERVAL '2 minutes',
+                       CASE WHEN g % 2000 = 0 THEN 'PENDING' WHEN g % 3 = 0 THEN 'REJECTED' ELSE 'APPROVED' END,
+                       CASE WHEN g % 2000 = 0 THEN NULL ELSE 300 + g % 600 END,
+                       CASE WHEN g % 2000 = 0 THEN NULL WHEN g % 3 = 0 THEN 'ALTO' ELSE 'BAJO' END
+                  FROM generate_series(1, ?) g, (SELECT min(id) AS first_id FROM affiliates) a
+                """, AFFILIATES, APPLICATIONS);
+        jdbcTemplate.update("""
+                INSERT INTO users (username, password, role, affiliate_id)
+                SELECT 'user' || a.id, 'not-a-hash', 'ROLE_AFILIADO', a.id FROM affiliates a
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    Stream<Arguments> finders() {
+        String document = String.format("%010d", AFFILIATES / 2);
+        Long someId = jdbcTemplate.queryForObject("SELECT max(id) - 1000 FROM credit_applications", Long.class);
+        LocalDateTime cursorDate = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+        return Stream.of(
+                finder("affiliates.findByDocument", () -> affiliateRepository.findByDocument(document)),
+                finder("affiliates.findByIdGreaterThanOrderByIdAsc",
+                        () -> affiliateRepository.findByIdGreaterThanOrderByIdAsc(5_000L, Limit.of(50))),
+                finder("affiliates.findByStatusAndIdGreaterThanOrderByIdAsc",
+                        () -> affiliateRepository.findByStatusAndIdGreaterThanOrderByIdAsc("INACTIVE", 0L,
+                                Limit.of(50))),
+                finder("credit.findById", () -> creditRepository.findById(someId)),
+                finder("credit.findAllById",
+                        () -> creditRepository.findAllById(List.of(someId, someId + 1, someId + 2))),
+                finder("credit.findRowsByStatus(PENDING)", () -> creditRepository.findRowsByStatus("PENDING")),
+                finder("credit.findRowsByStatusOrderByApplicationDateAscIdAsc(PENDING)",
+                        () -> creditRepository.findRowsByStatusOrderByApplicationDateAscIdAsc("PENDING",
+                                Limit.of(100))),
+                finder("credit.findRowsByAffiliateDocument",
+                        () -> creditRepository.findRowsByAffiliateDocument(document)),
+                finder("credit.findPage", () -> creditRepository.findPage(
+                        CreditApplicationFilter.builder().build(), null, null, 50)),
+                finder("credit.findPage(cursor)", () -> creditRepository.findPage(
+                        CreditApplicationFilter.builder().build(), cursorDate, someId, 50)),
+                finder("credit.findPage(status)", () -> creditRepository.findPage(
+                        CreditApplicationFilter.builder().status(CreditApplication.CreditStatus.PENDING).build(),
+                        null, null, 50)),
+                finder("credit.findPage(document)", () -> creditRepository.findPage(
+                        CreditApplicationFilter.builder().affiliateDocument(document).build(), null, null, 50)),
+                finder("users.findByUsername", () -> userRepository.findByUsername("user42")),
+                // Last: they move rows out of PENDING
+                finder("credit.releaseExpiredClaims", () -> creditAdapter.releaseExpiredClaims()),
+                finder("credit.claimNextForEvaluation", () -> creditAdapter.claimNextForEvaluation(20)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderShouldNotScanWholeTable(String name, Runnable finder) {
+        CAPTURE.queries.clear();
+        finder.run();
+        List<CapturedQuery> statements = CAPTURE.queries.stream()
+                .filter(query -> {
+                    String sql = query.sql().stripLeading().toLowerCase();
+                    return sql.startsWith("select") || sql.startsWith("with") || sql.startsWith("update");
+                })
+                .toList();
+
+        assertThat(statements).as("Statements issued by %s", name).isNotEmpty();
+        for (CapturedQuery query : statements) {
+            JsonNode plan = explain(query);
+            List<String> scanned = new ArrayList<>();
+            collectSequentialScans(plan.get(0).get("Plan"), scanned);
+            if (!scanned.isEmpty()) {
+                fail("%s scans %s sequentially.%nSQL: %s%nPlan: %s", name, scanned, query.sql(),
+                        plan.toPrettyString());
+            }
+        }
+    }
+
+    private JsonNode explain(CapturedQuery query) {
+        String json = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + query.sql())) {
+                for (ParameterSetOperation parameter : query.parameters()) {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot bind parameters of " + query.sql(), e);
+            }
+        });
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + json, e);
+        }
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> scanned) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && TABLES.contains(node.path("Relation Name").asText())) {
+            scanned.add(node.path("Relation Name").asText());
+        }
+        node.path("Plans").forEach(child -> collectSequentialScans(child, scanned));
+    }
+
+    private static Arguments finder(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+
+    record CapturedQuery(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    /**
+     * Keeps every statement sent through the data source, with a copy of its bind values.
+     */
+    static final class StatementCapture implements QueryExecutionListener {
+
+        private final List<CapturedQuery> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                        ? List.of()
+                        : List.copyOf(queryInfo.getParametersList().get(0));
+                queries.add(new CapturedQuery(queryInfo.getQuery(), parameters));
+            }
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StatementCaptureConfiguration {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(CAPTURE).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
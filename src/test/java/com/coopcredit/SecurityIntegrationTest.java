@@ -9,8 +9,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -78,8 +76,7 @@ public class SecurityIntegrationTest {
     @Test
     void shouldAllowAccessWithValidToken() throws Exception {
         // Authenticate via endpoint to be sure or generate manually if DB is in sync
-        UserDetails user = User.withUsername("admin").password("password").roles("ADMIN").build();
-        String token = jwtService.generateToken(user);
+        String token = jwtService.generateToken("admin", "ROLE_ADMIN", null);
 
         mockMvc.perform(get("/api/afiliados/dummy")
                 .header("Authorization", "Bearer " + token))
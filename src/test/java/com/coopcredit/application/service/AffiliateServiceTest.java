@@ -1,6 +1,10 @@
 package com.coopcredit.application.service;
 
 import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.AffiliateImportReport;
+import com.coopcredit.domain.model.AffiliateImportResult;
+import com.coopcredit.domain.model.AffiliateImportRow;
+import com.coopcredit.domain.model.CursorPage;
 import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,4 +102,67 @@ class AffiliateServiceTest {
 
         assertThrows(IllegalArgumentException.class, () -> affiliateService.updateAffiliate("12345678", updateData));
     }
+
+    @Test
+    void getAffiliates_ShouldDelegateToRepositoryPage() {
+        CursorPage<Affiliate> page = CursorPage.<Affiliate>builder()
+                .items(java.util.List.of(Affiliate.builder().id(1L).build()))
+                .nextCursor("MQ")
+                .build();
+        when(affiliateRepository.findPage(Affiliate.AffiliateStatus.ACTIVE, null, 50)).thenReturn(page);
+
+        assertSame(page, affiliateService.getAffiliates(Affiliate.AffiliateStatus.ACTIVE, null, 50));
+    }
+
+    @Test
+    void getAffiliates_WhenSizeOutOfRange_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> affiliateService.getAffiliates(null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> affiliateService.getAffiliates(null, null, 501));
+        verifyNoInteractions(affiliateRepository);
+    }
+
+    @Test
+    void importAffiliates_ShouldReportEachRow() {
+        List<AffiliateImportRow> rows = List.of(
+                importRow(2, "11111", "Ana Gomez"),
+                importRow(3, "22222", "Luis Perez"),
+                importRow(4, "11111", "Ana Repetida"),
+                invalidRow(5, "123", "Documento debe tener entre 5 y 12 dígitos"),
+                AffiliateImportRow.builder().line(6).error("Invalid salary: abc").build());
+        when(affiliateRepository.insertAll(any())).thenReturn(List.of("11111"));
+
+        AffiliateImportReport report = affiliateService.importAffiliates(rows);
+
+        assertEquals(5, report.getTotal());
+        assertEquals(1, report.getImported());
+        assertEquals(2, report.getDuplicates());
+        assertEquals(2, report.getInvalid());
+        assertEquals(AffiliateImportResult.Status.IMPORTED, report.getRows().get(0).getStatus());
+        assertEquals("Affiliate with this document already exists", report.getRows().get(1).getMessage());
+        assertEquals("Document repeated in this file", report.getRows().get(2).getMessage());
+        assertEquals(AffiliateImportResult.Status.INVALID, report.getRows().get(3).getStatus());
+        assertEquals("123", report.getRows().get(3).getDocument());
+        assertEquals(6, report.getRows().get(4).getLine());
+        verify(affiliateRepository).insertAll(argThat(affiliates -> affiliates.size() == 2
+                && affiliates.stream().allMatch(Affiliate::isActive)));
+        verify(affiliateRepository, never()).findByDocument(any());
+    }
+
+    private AffiliateImportRow importRow(int line, String document, String name) {
+        return AffiliateImportRow.builder()
+                .line(line)
+                .affiliate(Affiliate.builder()
+                        .document(document)
+                        .name(name)
+                        .salary(new BigDecimal("2500000"))
+                        .affiliationDate(LocalDate.now().minusYears(1))
+                        .build())
+                .build();
+    }
+
+    private AffiliateImportRow invalidRow(int line, String document, String error) {
+        AffiliateImportRow row = importRow(line, document, "Invalid Row");
+        row.setError(error);
+        return row;
+    }
 }
@@ -1,11 +1,19 @@
 package com.coopcredit.application.service;
 
+import com.coopcredit.domain.exception.ApplicationStateConflictException;
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
 import com.coopcredit.domain.model.Affiliate;
 import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.CreditApplicationFilter;
+import com.coopcredit.domain.model.EvaluationResult;
+import com.coopcredit.domain.model.PortfolioStatistics;
+import com.coopcredit.domain.model.PortfolioStatisticsEntry;
 import com.coopcredit.domain.model.RiskEvaluation;
 import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.coopcredit.domain.port.out.CreditMetricsPort;
 import com.coopcredit.domain.port.out.RiskServicePort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,10 +22,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,10 +50,18 @@ class CreditApplicationServiceTest {
     private AffiliateRepositoryPort affiliateRepository;
     @Mock
     private RiskServicePort riskService;
+    @Mock
+    private CreditMetricsPort creditMetrics;
 
     @InjectMocks
     private CreditApplicationService service;
 
+    @BeforeEach
+    void runAsyncRiskCallsThroughStubs() {
+        // The port's default async method calls the stubbed evaluateRisk
+        lenient().when(riskService.evaluateRiskAsync(any(), any(), any())).thenCallRealMethod();
+    }
+
     @Test
     void shouldApproveApplication_WhenRulesPass() {
         // Arrange
@@ -99,6 +128,7 @@ class CreditApplicationServiceTest {
         CreditApplication app = CreditApplication.builder().build();
 
         assertThrows(IllegalArgumentException.class, () -> service.registerApplication(app, "999"));
+        verify(creditMetrics).applicationRejected(CreditMetricsPort.RejectionReason.AFFILIATE_NOT_FOUND);
     }
 
     @Test
@@ -108,6 +138,7 @@ class CreditApplicationServiceTest {
         CreditApplication app = CreditApplication.builder().build();
 
         assertThrows(IllegalArgumentException.class, () -> service.registerApplication(app, "123"));
+        verify(creditMetrics).applicationRejected(CreditMetricsPort.RejectionReason.AFFILIATE_INACTIVE);
     }
 
     @Test
@@ -144,4 +175,323 @@ class CreditApplicationServiceTest {
         Exception ex = assertThrows(IllegalArgumentException.class, () -> service.registerApplication(app, "123"));
         assertTrue(ex.getMessage().contains("excede el 50%"));
     }
+
+    @Test
+    void evaluateApplications_ShouldReportEachApplicationIndependently() {
+        CreditApplicationService batchService = new CreditApplicationService(
+                creditRepository, affiliateRepository, riskService, creditMetrics, Runnable::run);
+
+        CreditApplication approved = pendingApplication(1L, "111");
+        CreditApplication failing = pendingApplication(2L, "222");
+        CreditApplication evaluated = pendingApplication(3L, "333");
+        evaluated.setStatus(CreditApplication.CreditStatus.APPROVED);
+
+        when(creditRepository.findAllById(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(approved, failing, evaluated));
+        when(creditRepository.claimForEvaluation(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(riskService.evaluateRisk(eq("111"), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(800).riskLevel("BAJO").build());
+        when(riskService.evaluateRisk(eq("222"), any(), any()))
+                .thenThrow(new RuntimeException("Risk service timeout"));
+        when(creditRepository.saveDecisions(List.of(approved))).thenReturn(List.of(true));
+
+        List<EvaluationResult> results = batchService.evaluateApplications(List.of(1L, 2L, 3L, 4L, 1L));
+
+        assertEquals(4, results.size());
+        assertEquals(EvaluationResult.Outcome.APPROVED, results.get(0).getOutcome());
+        assertEquals(EvaluationResult.Outcome.FAILED, results.get(1).getOutcome());
+        assertEquals("Risk service timeout", results.get(1).getMessage());
+        assertEquals(EvaluationResult.Outcome.SKIPPED, results.get(2).getOutcome());
+        assertEquals(EvaluationResult.Outcome.NOT_FOUND, results.get(3).getOutcome());
+        verify(riskService, never()).evaluateRisk(eq("333"), any(), any());
+        verify(creditRepository).releaseClaims(List.of(2L));
+        verify(creditMetrics).applicationDecided(CreditApplication.CreditStatus.APPROVED);
+        verifyNoMoreInteractions(creditMetrics);
+    }
+
+    @Test
+    void evaluateApplications_WhenBatchWriteFails_ShouldFallBackToSingleWrites() {
+        CreditApplicationService batchService = new CreditApplicationService(
+                creditRepository, affiliateRepository, riskService, creditMetrics, Runnable::run);
+
+        CreditApplication first = pendingApplication(1L, "111");
+        CreditApplication second = pendingApplication(2L, "222");
+
+        when(creditRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(creditRepository.claimForEvaluation(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(riskService.evaluateRisk(any(), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(400).riskLevel("ALTO").build());
+        when(creditRepository.saveDecisions(List.of(first, second)))
+                .thenThrow(new RuntimeException("batch failed"));
+        when(creditRepository.saveDecisions(List.of(first))).thenReturn(List.of(true));
+        when(creditRepository.saveDecisions(List.of(second))).thenThrow(new RuntimeException("row failed"));
+
+        List<EvaluationResult> results = batchService.evaluateApplications(List.of(1L, 2L));
+
+        assertEquals(EvaluationResult.Outcome.REJECTED, results.get(0).getOutcome());
+        assertEquals(EvaluationResult.Outcome.FAILED, results.get(1).getOutcome());
+        verify(creditRepository).releaseClaims(List.of(2L));
+    }
+
+    @Test
+    void evaluateNextPending_ShouldEvaluateClaimedChunkAndReleaseFailures() {
+        CreditApplicationService queueService = new CreditApplicationService(
+                creditRepository, affiliateRepository, riskService, creditMetrics, Runnable::run);
+
+        CreditApplication approved = pendingApplication(1L, "111");
+        CreditApplication failing = pendingApplication(2L, "222");
+        approved.setStatus(CreditApplication.CreditStatus.EVALUATING);
+        failing.setStatus(CreditApplication.CreditStatus.EVALUATING);
+
+        when(creditRepository.claimNextForEvaluation(20)).thenReturn(List.of(1L, 2L));
+        when(creditRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(failing, approved));
+        when(riskService.evaluateRisk(eq("111"), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(800).riskLevel("BAJO").build());
+        when(riskService.evaluateRisk(eq("222"), any(), any()))
+                .thenThrow(new RuntimeException("Risk service timeout"));
+        when(creditRepository.saveDecisions(List.of(approved))).thenReturn(List.of(true));
+
+        List<EvaluationResult> results = queueService.evaluateNextPending(20);
+
+        assertEquals(2, results.size());
+        assertEquals(EvaluationResult.Outcome.APPROVED, results.get(0).getOutcome());
+        assertEquals(EvaluationResult.Outcome.FAILED, results.get(1).getOutcome());
+        verify(creditRepository).releaseExpiredClaims();
+        verify(creditRepository).releaseClaims(List.of(2L));
+        verify(creditRepository, never()).claimForEvaluation(any());
+    }
+
+    @Test
+    void evaluateNextPending_WhenQueueIsEmpty_ShouldNotLoadAnything() {
+        when(creditRepository.claimNextForEvaluation(20)).thenReturn(List.of());
+
+        assertTrue(service.evaluateNextPending(20).isEmpty());
+        verify(creditRepository, never()).findAllById(any());
+        verifyNoInteractions(riskService);
+    }
+
+    @Test
+    void evaluateApplication_WhenClaimIsLost_ShouldNotCallRiskService() {
+        CreditApplication application = pendingApplication(1L, "111");
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of());
+
+        assertThrows(ApplicationStateConflictException.class, () -> service.evaluateApplication(1L));
+        verifyNoInteractions(riskService);
+    }
+
+    @Test
+    void evaluateApplication_UnderContention_ShouldCallRiskServiceOnce() throws Exception {
+        int callers = 16;
+        // Each caller reads its own PENDING copy; the claim lets exactly one of them through, as the conditional UPDATE does
+        AtomicBoolean claimed = new AtomicBoolean();
+        when(creditRepository.findById(1L)).thenAnswer(invocation -> Optional.of(pendingApplication(1L, "111")));
+        when(creditRepository.claimForEvaluation(List.of(1L)))
+                .thenAnswer(invocation -> claimed.compareAndSet(false, true) ? List.of(1L) : List.of());
+        when(riskService.evaluateRisk(any(), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(800).riskLevel("BAJO").build());
+        when(creditRepository.saveDecisions(any())).thenReturn(List.of(true));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<CreditApplication>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return service.evaluateApplication(1L);
+            }));
+        }
+        start.countDown();
+
+        int evaluated = 0;
+        int conflicts = 0;
+        for (Future<CreditApplication> result : results) {
+            try {
+                assertEquals(CreditApplication.CreditStatus.APPROVED, result.get(10, TimeUnit.SECONDS).getStatus());
+                evaluated++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(ApplicationStateConflictException.class, e.getCause());
+                conflicts++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, evaluated);
+        assertEquals(callers - 1, conflicts);
+        verify(riskService, times(1)).evaluateRisk(any(), any(), any());
+        verify(creditRepository, times(1)).saveDecisions(any());
+    }
+
+    @Test
+    void evaluateApplication_WhenLeaseIsStillHeld_ShouldConflict() {
+        CreditApplication application = pendingApplication(1L, "111");
+        application.setStatus(CreditApplication.CreditStatus.EVALUATING);
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of());
+
+        assertThrows(ApplicationStateConflictException.class, () -> service.evaluateApplication(1L));
+        verifyNoInteractions(riskService);
+    }
+
+    @Test
+    void evaluateApplication_WhenLeaseHasExpired_ShouldClaimAndEvaluate() {
+        // Left EVALUATING by a node that died mid-evaluation
+        CreditApplication application = pendingApplication(1L, "111");
+        application.setStatus(CreditApplication.CreditStatus.EVALUATING);
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of(1L));
+        when(riskService.evaluateRisk(any(), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(800).riskLevel("BAJO").build());
+        when(creditRepository.saveDecisions(any())).thenReturn(List.of(true));
+
+        CreditApplication result = service.evaluateApplication(1L);
+
+        assertEquals(CreditApplication.CreditStatus.APPROVED, result.getStatus());
+        verify(creditRepository, never()).releaseClaims(any());
+    }
+
+    @Test
+    void evaluateApplication_WhenRiskServiceFails_ShouldReleaseClaim() {
+        CreditApplication application = pendingApplication(1L, "111");
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of(1L));
+        when(riskService.evaluateRisk(any(), any(), any())).thenThrow(new RuntimeException("timeout"));
+
+        assertThrows(RuntimeException.class, () -> service.evaluateApplication(1L));
+        verify(creditRepository).releaseClaims(List.of(1L));
+        verify(creditRepository, never()).saveDecisions(any());
+    }
+
+    @Test
+    void evaluateApplicationAsync_ShouldWriteDecisionOnTaskExecutor() throws Exception {
+        List<Thread> writers = new ArrayList<>();
+        CreditApplicationService asyncService = new CreditApplicationService(
+                creditRepository, affiliateRepository, riskService, creditMetrics, task -> {
+                    Thread writer = new Thread(task);
+                    writers.add(writer);
+                    writer.start();
+                });
+        CompletableFuture<RiskEvaluation> risk = new CompletableFuture<>();
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(pendingApplication(1L, "111")));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of(1L));
+        doReturn(risk).when(riskService).evaluateRiskAsync(any(), any(), any());
+        when(creditRepository.saveDecisions(any())).thenAnswer(invocation -> {
+            assertTrue(writers.contains(Thread.currentThread()));
+            return List.of(true);
+        });
+
+        CompletableFuture<CreditApplication> evaluation = asyncService.evaluateApplicationAsync(1L);
+        assertFalse(evaluation.isDone());
+        risk.complete(RiskEvaluation.builder().score(400).riskLevel("ALTO").build());
+
+        assertEquals(CreditApplication.CreditStatus.REJECTED, evaluation.get(10, TimeUnit.SECONDS).getStatus());
+        verify(creditMetrics).applicationDecided(CreditApplication.CreditStatus.REJECTED);
+        verify(riskService, never()).evaluateRisk(any(), any(), any());
+    }
+
+    @Test
+    void evaluateApplicationAsync_WhenRiskServiceFails_ShouldReleaseClaimAndFail() {
+        CreditApplicationService asyncService = new CreditApplicationService(
+                creditRepository, affiliateRepository, riskService, creditMetrics, Runnable::run);
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(pendingApplication(1L, "111")));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of(1L));
+        doReturn(CompletableFuture.failedFuture(new RiskServiceUnavailableException("down", null, null)))
+                .when(riskService).evaluateRiskAsync(any(), any(), any());
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> asyncService.evaluateApplicationAsync(1L).get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(RiskServiceUnavailableException.class, failure.getCause());
+        verify(creditRepository).releaseClaims(List.of(1L));
+        verify(creditRepository, never()).saveDecisions(any());
+    }
+
+    @Test
+    void evaluateApplicationAsync_WhenLeaseIsStillHeld_ShouldThrowBeforeCallingRiskService() {
+        CreditApplication application = pendingApplication(1L, "111");
+        application.setStatus(CreditApplication.CreditStatus.EVALUATING);
+        when(creditRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(creditRepository.claimForEvaluation(List.of(1L))).thenReturn(List.of());
+
+        assertThrows(ApplicationStateConflictException.class, () -> service.evaluateApplicationAsync(1L));
+        verify(riskService, never()).evaluateRiskAsync(any(), any(), any());
+    }
+
+    @Test
+    void getApplications_WhenPageRequestIsInvalid_ShouldThrow() {
+        CreditApplicationFilter empty = CreditApplicationFilter.builder().build();
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        CreditApplicationFilter inverted = CreditApplicationFilter.builder().from(now).to(now.minusDays(1)).build();
+
+        assertThrows(IllegalArgumentException.class, () -> service.getApplications(empty, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.getApplications(empty, null, 501));
+        assertThrows(IllegalArgumentException.class, () -> service.getApplications(inverted, null, 50));
+        verifyNoInteractions(creditRepository);
+    }
+
+    @Test
+    void getStatistics_ShouldAggregateTotalsPerMonthAndOverall() {
+        YearMonth january = YearMonth.of(2025, 1);
+        YearMonth february = YearMonth.of(2025, 2);
+        when(creditRepository.findStatistics(january, february)).thenReturn(List.of(
+                entry(january, CreditApplication.CreditStatus.PENDING, null, null, 2, "3000000", 0),
+                entry(january, CreditApplication.CreditStatus.APPROVED, "BAJO", 700, 3, "6000000", 2190),
+                entry(february, CreditApplication.CreditStatus.APPROVED, "BAJO", 800, 1, "1000000", 850),
+                entry(february, CreditApplication.CreditStatus.REJECTED, "ALTO", 300, 1, "5000000", 320)));
+
+        PortfolioStatistics statistics = service.getStatistics(january, february);
+
+        PortfolioStatistics.Summary total = statistics.getTotal();
+        assertNull(total.getMonth());
+        assertEquals(7, total.getCount());
+        assertEquals(new BigDecimal("15000000"), total.getRequestedAmountSum());
+        assertEquals(new BigDecimal("2142857.14"), total.getRequestedAmountAverage());
+        assertEquals(2, total.getByStatus().get(CreditApplication.CreditStatus.PENDING).getCount());
+        assertEquals(4, total.getByStatus().get(CreditApplication.CreditStatus.APPROVED).getCount());
+        assertEquals(new BigDecimal("1750000.00"),
+                total.getByStatus().get(CreditApplication.CreditStatus.APPROVED).getRequestedAmountAverage());
+
+        PortfolioStatistics.RiskLevelSummary low = total.getByRiskLevel().get("BAJO");
+        assertEquals(4, low.getCount());
+        assertEquals(760.0, low.getAverageScore());
+        assertEquals(Map.of("700-799", 3L, "800-899", 1L), low.getScoreDistribution());
+        assertEquals(List.of("ALTO", "BAJO"), List.copyOf(total.getByRiskLevel().keySet()));
+
+        assertEquals(List.of(january, february),
+                statistics.getMonths().stream().map(PortfolioStatistics.Summary::getMonth).toList());
+        PortfolioStatistics.Summary firstMonth = statistics.getMonths().get(0);
+        assertEquals(5, firstMonth.getCount());
+        assertEquals(0, firstMonth.getByStatus().get(CreditApplication.CreditStatus.REJECTED).getCount());
+        assertNull(firstMonth.getByStatus().get(CreditApplication.CreditStatus.REJECTED).getRequestedAmountAverage());
+    }
+
+    @Test
+    void getStatistics_WhenRangeIsInverted_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getStatistics(YearMonth.of(2025, 3), YearMonth.of(2025, 1)));
+        verifyNoInteractions(creditRepository);
+    }
+
+    private PortfolioStatisticsEntry entry(YearMonth month, CreditApplication.CreditStatus status, String riskLevel,
+            Integer scoreBand, long count, String amount, long scoreSum) {
+        return PortfolioStatisticsEntry.builder()
+                .month(month)
+                .status(status)
+                .riskLevel(riskLevel)
+                .scoreBand(scoreBand)
+                .count(count)
+                .requestedAmountSum(new BigDecimal(amount))
+                .riskScoreSum(scoreSum)
+                .build();
+    }
+
+    private CreditApplication pendingApplication(Long id, String document) {
+        return CreditApplication.builder()
+                .id(id)
+                .affiliate(Affiliate.builder().id(id).document(document).build())
+                .requestedAmount(new BigDecimal("1000000"))
+                .termMonths(12)
+                .status(CreditApplication.CreditStatus.PENDING)
+                .build();
+    }
 }
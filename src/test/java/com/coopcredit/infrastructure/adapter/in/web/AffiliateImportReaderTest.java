@@ -0,0 +1,104 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.AffiliateImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AffiliateImportReaderTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final AffiliateImportReader reader = new AffiliateImportReader(new ObjectMapper(), VALIDATOR, 3);
+
+    @Test
+    void readCsv_ShouldMapColumnsByHeaderAndKeepLineNumbers() throws Exception {
+        List<AffiliateImportRow> rows = reader.readCsv(body("""
+                name,document,affiliationDate,salary
+                "Gomez, Ana",11111,2020-05-01,2500000
+
+                Luis,22222,not-a-date,100
+                Solo,33333
+                """));
+
+        assertEquals(3, rows.size());
+        AffiliateImportRow first = rows.get(0);
+        assertEquals(2, first.getLine());
+        assertEquals("11111", first.getAffiliate().getDocument());
+        assertEquals("Gomez, Ana", first.getAffiliate().getName());
+        assertEquals(new BigDecimal("2500000"), first.getAffiliate().getSalary());
+        assertEquals(LocalDate.of(2020, 5, 1), first.getAffiliate().getAffiliationDate());
+        assertEquals(4, rows.get(1).getLine());
+        assertTrue(rows.get(1).getError().startsWith("Invalid affiliationDate"));
+        assertEquals("Expected 4 columns, found 2", rows.get(2).getError());
+    }
+
+    @Test
+    void readCsv_WhenHeaderIsMissingColumns_ShouldReject() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.readCsv(body("document,name\n11111,Ana\n")));
+    }
+
+    @Test
+    void readNdjson_ShouldParseObjectsAndFlagMalformedLines() throws Exception {
+        List<AffiliateImportRow> rows = reader.readNdjson(body("""
+                {"document":"11111","name":"Ana","salary":2500000,"affiliationDate":"2020-05-01"}
+                {"document":
+                [1,2]
+                """));
+
+        assertEquals(3, rows.size());
+        assertEquals("Ana", rows.get(0).getAffiliate().getName());
+        assertEquals("Malformed JSON", rows.get(1).getError());
+        assertEquals("Expected a JSON object", rows.get(2).getError());
+    }
+
+    @Test
+    void rows_ShouldBeCheckedAgainstTheCreateAffiliateRules() throws Exception {
+        List<AffiliateImportRow> rows = reader.readCsv(body("""
+                document,name,salary,affiliationDate
+                11111,Ana Gomez,2500000.125,2020-05-01
+                123,Al,123456789012345678,2020-05-01
+                33333,Eva Ruiz,2500000.10,2020-05-01
+                """));
+
+        // One salary outside DECIMAL(19, 2) would otherwise fail the whole insert batch
+        assertEquals("Salario admite hasta 17 enteros y 2 decimales", rows.get(0).getError());
+        assertEquals("11111", rows.get(0).getAffiliate().getDocument());
+        assertEquals("Documento debe tener entre 5 y 12 dígitos; Nombre debe tener entre 3 y 100 caracteres; "
+                + "Salario admite hasta 17 enteros y 2 decimales", rows.get(1).getError());
+        assertNull(rows.get(2).getError());
+    }
+
+    @Test
+    void readNdjson_WhenBodyExceedsMaxRows_ShouldStopReading() {
+        AtomicInteger served = new AtomicInteger();
+        String line = "{\"document\":\"11111\",\"name\":\"Ana\",\"salary\":1,\"affiliationDate\":\"2020-05-01\"}\n";
+        // An endless body: only a reader that stops at the cap returns
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                int index = served.getAndIncrement();
+                return line.charAt(index % line.length());
+            }
+        };
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reader.readNdjson(endless));
+        assertEquals("An import cannot exceed 3 rows", e.getMessage());
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, meterRegistry);
+
+    @Test
+    void requestsOverTheLimit_ShouldWaitForAFreeSlot() throws Exception {
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inProgress.decrementAndGet();
+        };
+
+        List<Thread> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(Thread.ofVirtual().start(() -> doFilter(chain)));
+        }
+        awaitQueued(3);
+        assertEquals(2, inProgress.get());
+
+        release.countDown();
+        for (Thread request : requests) {
+            assertTrue(request.join(Duration.ofSeconds(5)));
+        }
+        assertEquals(2, maxInProgress.get());
+        assertEquals(0, meterRegistry.get("http.server.requests.queued").gauge().value());
+    }
+
+    @Test
+    void failedRequest_ShouldGiveItsSlotBack() {
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                    new MockHttpServletRequest("POST", "/api/solicitudes"), new MockHttpServletResponse(), failing));
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // A leaked slot would leave none for this request and it would block for good
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> doFilter((request, res) -> ((MockHttpServletResponse) res).setStatus(201), response));
+        assertEquals(201, response.getStatus());
+    }
+
+    @Test
+    void asyncRequest_ShouldHoldItsSlotUntilCompleted() throws Exception {
+        List<MockHttpServletRequest> asyncRequests = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/solicitudes/7/evaluar");
+            request.setAsyncSupported(true);
+            // Handler returns a future: the request thread leaves with the evaluation still running
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync(req, res));
+            asyncRequests.add(request);
+        }
+
+        CountDownLatch ran = new CountDownLatch(1);
+        Thread waiting = Thread.ofVirtual().start(() -> doFilter((request, response) -> ran.countDown()));
+        awaitQueued(1);
+        assertEquals(1, ran.getCount());
+
+        asyncRequests.get(0).getAsyncContext().complete();
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(waiting.join(Duration.ofSeconds(5)));
+    }
+
+    private void doFilter(FilterChain chain) {
+        doFilter(chain, new MockHttpServletResponse());
+    }
+
+    private void doFilter(FilterChain chain, MockHttpServletResponse response) {
+        try {
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/solicitudes"), response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("http.server.requests.queued").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "requests never queued");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.port.in.ProcessCreditApplicationUseCase;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreditApplicationControllerTest {
+
+    @Mock
+    private ProcessCreditApplicationUseCase processCreditApplicationUseCase;
+
+    @Mock
+    private SpringDataUserRepository userRepository;
+
+    @Test
+    void export_WhenGzipIsAccepted_ShouldCompress() {
+        ResponseEntity<StreamingResponseBody> response = controller()
+                .exportApplications("ndjson", null, "deflate, gzip;q=0.8");
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void export_WhenGzipHasZeroQuality_ShouldNotCompress() {
+        ResponseEntity<StreamingResponseBody> response = controller()
+                .exportApplications("ndjson", null, "gzip;q=0, identity");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourQualityValuesAndTokens() {
+        assertTrue(CreditApplicationController.acceptsGzip("gzip"));
+        assertTrue(CreditApplicationController.acceptsGzip("br;q=1.0, GZIP ; q=0.5"));
+        assertTrue(CreditApplicationController.acceptsGzip("*"));
+        assertFalse(CreditApplicationController.acceptsGzip(null));
+        assertFalse(CreditApplicationController.acceptsGzip("identity"));
+        assertFalse(CreditApplicationController.acceptsGzip("gzip;q=0.000"));
+        assertFalse(CreditApplicationController.acceptsGzip("x-gzip-foo, gzipped"));
+        // An explicit gzip entry takes precedence over the wildcard
+        assertFalse(CreditApplicationController.acceptsGzip("*;q=1, gzip;q=0"));
+        assertFalse(CreditApplicationController.acceptsGzip("gzip;q=abc"));
+    }
+
+    private CreditApplicationController controller() {
+        return new CreditApplicationController(processCreditApplicationUseCase, userRepository, new ObjectMapper());
+    }
+}
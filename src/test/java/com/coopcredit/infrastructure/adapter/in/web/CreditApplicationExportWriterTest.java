@@ -0,0 +1,79 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditApplicationExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ndjson_ShouldWriteOneFlatObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CreditApplicationExportWriter writer = new CreditApplicationExportWriter(
+                CreditApplicationExportWriter.Format.NDJSON, out, objectMapper.getFactory());
+
+        writer.write(application(1L, "Ana", null));
+        writer.write(application(2L, "Luis", "Score alto"));
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("12345678", first.get("affiliateDocument").asText());
+        assertTrue(first.get("riskScore").isNull());
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(750, second.get("riskScore").asInt());
+        assertTrue(lines[1].contains("\"requestedAmount\":1000000.00"));
+        assertEquals("APPROVED", second.get("status").asText());
+    }
+
+    @Test
+    void csv_ShouldWriteHeaderAndQuoteSpecialCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CreditApplicationExportWriter writer = new CreditApplicationExportWriter(
+                CreditApplicationExportWriter.Format.CSV, out, objectMapper.getFactory());
+
+        writer.write(application(7L, "Pérez, \"Ana\"", "ok"));
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,affiliateDocument,affiliateName,"));
+        assertTrue(lines[1].startsWith("7,12345678,\"Pérez, \"\"Ana\"\"\",1000000.00,12,"));
+    }
+
+    @Test
+    void unknownFormat_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CreditApplicationExportWriter.Format.of("xml"));
+        assertEquals(CreditApplicationExportWriter.Format.CSV, CreditApplicationExportWriter.Format.of("csv"));
+    }
+
+    private CreditApplication application(Long id, String name, String reason) {
+        RiskEvaluation risk = reason == null ? null
+                : RiskEvaluation.builder().score(750).riskLevel("BAJO").decisionReason(reason)
+                        .evaluationDate(LocalDateTime.of(2025, 12, 10, 9, 0)).build();
+        return CreditApplication.builder()
+                .id(id)
+                .affiliate(Affiliate.builder().id(1L).document("12345678").name(name).build())
+                .requestedAmount(new BigDecimal("1000000.00"))
+                .termMonths(12)
+                .applicationDate(LocalDateTime.of(2025, 12, 9, 20, 30))
+                .status(reason == null ? CreditApplication.CreditStatus.PENDING
+                        : CreditApplication.CreditStatus.APPROVED)
+                .riskEvaluation(risk)
+                .build();
+    }
+}
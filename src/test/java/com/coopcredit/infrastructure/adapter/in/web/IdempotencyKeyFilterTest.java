@@ -0,0 +1,341 @@
+package com.coopcredit.infrastructure.adapter.in.web;
+
+import com.coopcredit.domain.model.IdempotencyRecord;
+import com.coopcredit.domain.model.IdempotentResponse;
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import com.coopcredit.infrastructure.adapter.out.persistence.CachingIdempotencyStoreAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyFilterTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration LOCK = Duration.ofMinutes(1);
+    private static final int MAX_BODY = 64;
+
+    @Mock
+    private IdempotencyStorePort store;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ana", null, List.of(new SimpleGrantedAuthority("ROLE_AFILIADO"))));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void firstRequest_ShouldRunAndStoreResponse() throws Exception {
+        when(store.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenAnswer(invocation -> IdempotencyRecord.builder()
+                        .requestHash(invocation.getArgument(2)).acquired(true).build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request("/api/solicitudes", "{\"amount\":1}"), response,
+                (req, res) -> {
+                    // The body is still readable downstream after being fingerprinted
+                    assertEquals("{\"amount\":1}", new String(req.getInputStream().readAllBytes()));
+                    HttpServletResponse http = (HttpServletResponse) res;
+                    http.setStatus(201);
+                    http.setHeader("Location", "/api/solicitudes/7");
+                    http.setContentType("application/json");
+                    http.getOutputStream().write("{\"id\":7}".getBytes());
+                });
+
+        ArgumentCaptor<IdempotentResponse> stored = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(store).complete(eq("ana"), eq("k1"), stored.capture(), eq(TTL));
+        assertEquals(201, stored.getValue().getStatus());
+        assertEquals("/api/solicitudes/7", stored.getValue().getLocation());
+        assertEquals("{\"id\":7}", new String(stored.getValue().getBody()));
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":7}", response.getContentAsString());
+        assertNull(response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void retry_ShouldReplayStoredResponseWithoutRunning() throws Exception {
+        when(store.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenAnswer(invocation -> IdempotencyRecord.builder()
+                        .requestHash(invocation.getArgument(2))
+                        .response(IdempotentResponse.builder()
+                                .status(201)
+                                .contentType("application/json")
+                                .location("/api/solicitudes/7")
+                                .body("{\"id\":7}".getBytes())
+                                .build())
+                        .build());
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request("/api/solicitudes", "{\"amount\":1}"), response, chain);
+
+        verifyNoInteractions(chain);
+        assertEquals(201, response.getStatus());
+        assertEquals("/api/solicitudes/7", response.getHeader("Location"));
+        assertEquals("true", response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertEquals("{\"id\":7}", response.getContentAsString());
+    }
+
+    @Test
+    void sameKeyWithDifferentBody_ShouldBeRejected() throws Exception {
+        when(store.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenReturn(IdempotencyRecord.builder().requestHash("another-request").build());
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request("/api/solicitudes", "{\"amount\":2}"), response, chain);
+
+        verifyNoInteractions(chain);
+        assertEquals(422, response.getStatus());
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("Idempotency-Key Reutilizado"));
+    }
+
+    @Test
+    void retryableResponse_ShouldReleaseKeyInsteadOfStoring() throws Exception {
+        when(store.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenAnswer(invocation -> IdempotencyRecord.builder()
+                        .requestHash(invocation.getArgument(2)).acquired(true).build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request("/api/solicitudes/7/evaluar", ""), response,
+                (req, res) -> {
+                    HttpServletResponse http = (HttpServletResponse) res;
+                    http.setStatus(202);
+                    http.setHeader("Retry-After", "30");
+                });
+
+        verify(store, never()).complete(any(), any(), any(), any());
+        verify(store).release("ana", "k1");
+        assertEquals(202, response.getStatus());
+    }
+
+    @Test
+    void asyncHandler_ShouldStoreResponseOnAsyncDispatch() throws Exception {
+        when(store.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenAnswer(invocation -> IdempotencyRecord.builder()
+                        .requestHash(invocation.getArgument(2)).acquired(true).build());
+        IdempotencyKeyFilter filter = filter(store, Duration.ofSeconds(1));
+        MockHttpServletRequest request = request("/api/solicitudes/7/evaluar", "");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync(req, res);
+            asyncResponse.set(res);
+        });
+
+        verify(store, never()).complete(any(), any(), any(), any());
+        verify(store, never()).release(any(), any());
+        assertEquals("", response.getContentAsString());
+
+        // The container dispatches again with the objects passed to startAsync
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(request, asyncResponse.get(), (req, res) -> {
+            HttpServletResponse http = (HttpServletResponse) res;
+            http.setStatus(200);
+            http.setContentType("application/json");
+            http.getOutputStream().write("{\"id\":7,\"status\":\"APPROVED\"}".getBytes());
+        });
+
+        ArgumentCaptor<IdempotentResponse> stored = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(store).complete(eq("ana"), eq("k1"), stored.capture(), eq(TTL));
+        assertEquals(200, stored.getValue().getStatus());
+        assertEquals("{\"id\":7,\"status\":\"APPROVED\"}", new String(stored.getValue().getBody()));
+        assertEquals("{\"id\":7,\"status\":\"APPROVED\"}", response.getContentAsString());
+    }
+
+    @Test
+    void oversizedBody_ShouldBeRejectedWithoutReservingKey() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request("/api/solicitudes", "x".repeat(MAX_BODY + 1)),
+                response, chain);
+
+        verifyNoInteractions(chain, store);
+        assertEquals(413, response.getStatus());
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("Cuerpo Demasiado Grande"));
+    }
+
+    @Test
+    void oversizedBodyWithoutContentLength_ShouldStopReadingPastLimit() throws Exception {
+        // Chunked upload of an endless body: no Content-Length, so only the bytes read can tell
+        AtomicInteger read = new AtomicInteger();
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/solicitudes") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(new InputStream() {
+                    @Override
+                    public int read() {
+                        read.incrementAndGet();
+                        return 'x';
+                    }
+                });
+            }
+        };
+        chunked.addHeader(IdempotencyKeyFilter.HEADER, "k1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(chunked, response, mock(FilterChain.class));
+
+        verifyNoInteractions(store);
+        assertEquals(413, response.getStatus());
+        assertEquals(MAX_BODY + 1, read.get());
+    }
+
+    @Test
+    void cachedBody_ShouldNotifyReadListenerAtOnce() throws Exception {
+        when(store.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenAnswer(invocation -> IdempotencyRecord.builder()
+                        .requestHash(invocation.getArgument(2)).acquired(true).build());
+        List<String> events = new ArrayList<>();
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request("/api/solicitudes", "{\"amount\":1}"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    ServletInputStream in = req.getInputStream();
+                    in.setReadListener(new ReadListener() {
+                        @Override
+                        public void onDataAvailable() throws IOException {
+                            events.add("data:" + new String(in.readAllBytes()));
+                        }
+
+                        @Override
+                        public void onAllDataRead() {
+                            events.add("done");
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            events.add("error");
+                        }
+                    });
+                });
+
+        assertEquals(List.of("data:{\"amount\":1}", "done"), events);
+    }
+
+    @Test
+    void otherEndpoints_ShouldNotBeFiltered() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest request = request("/api/solicitudes/evaluar-lote", "{\"ids\":[1]}");
+
+        filter(store, Duration.ofSeconds(1)).doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(chain).doFilter(eq(request), any());
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void concurrentRetry_ShouldWaitForFirstRequestAndReplayIt() throws Exception {
+        IdempotencyStorePort shared = mock(IdempotencyStorePort.class);
+        AtomicInteger begins = new AtomicInteger();
+        when(shared.begin(eq("ana"), eq("k1"), anyString(), eq(LOCK)))
+                .thenAnswer(invocation -> IdempotencyRecord.builder()
+                        .requestHash(invocation.getArgument(2))
+                        .acquired(begins.getAndIncrement() == 0)
+                        .build());
+        IdempotencyKeyFilter filter = filter(new CachingIdempotencyStoreAdapter(shared, 100, Duration.ofMinutes(10)),
+                Duration.ofSeconds(10));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> run(filter,
+                (req, res) -> {
+                    executions.incrementAndGet();
+                    running.countDown();
+                    await(finish);
+                    ((HttpServletResponse) res).setStatus(200);
+                    res.getOutputStream().write("done".getBytes());
+                }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<MockHttpServletResponse> retry = CompletableFuture.supplyAsync(() -> run(filter,
+                (req, res) -> executions.incrementAndGet()));
+        finish.countDown();
+
+        assertEquals("done", first.get(5, TimeUnit.SECONDS).getContentAsString());
+        MockHttpServletResponse replayed = retry.get(5, TimeUnit.SECONDS);
+        assertEquals("done", replayed.getContentAsString());
+        assertEquals("true", replayed.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    private MockHttpServletResponse run(IdempotencyKeyFilter filter, FilterChain chain) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ana", null, List.of(new SimpleGrantedAuthority("ROLE_AFILIADO"))));
+        try {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request("/api/solicitudes/7/evaluar", ""), response, chain);
+            return response;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IdempotencyKeyFilter filter(IdempotencyStorePort port, Duration waitTimeout) {
+        return new IdempotencyKeyFilter(port, new ObjectMapper(), meterRegistry, TTL, LOCK, waitTimeout, MAX_BODY);
+    }
+
+    private static MockHttpServletRequest request(String path, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(IdempotencyKeyFilter.HEADER, "k1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
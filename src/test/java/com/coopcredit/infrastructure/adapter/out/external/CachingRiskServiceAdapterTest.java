@@ -0,0 +1,106 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRiskServiceAdapterTest {
+
+    @Mock
+    private RiskServicePort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(delegate.evaluateRisk(any(), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(720).riskLevel("BAJO").build());
+    }
+
+    @Test
+    void evaluateRisk_WhenSameInputs_ShouldCallDelegateOnce() {
+        CachingRiskServiceAdapter adapter = adapter(BigDecimal.ZERO);
+
+        RiskEvaluation first = adapter.evaluateRisk("123", new BigDecimal("1000000"), 12);
+        RiskEvaluation second = adapter.evaluateRisk("123", new BigDecimal("1000000.00"), 12);
+
+        assertEquals(720, second.getScore());
+        assertNotSame(first, second);
+        verify(delegate, times(1)).evaluateRisk(any(), any(), any());
+        assertEquals(1, adapter.getCache().stats().hitCount());
+        assertEquals(1, adapter.getCache().stats().missCount());
+    }
+
+    @Test
+    void evaluateRisk_WhenAmountsShareBucket_ShouldReuseEntry() {
+        CachingRiskServiceAdapter adapter = adapter(new BigDecimal("100000"));
+
+        adapter.evaluateRisk("123", new BigDecimal("1010000"), 12);
+        adapter.evaluateRisk("123", new BigDecimal("1090000"), 12);
+        adapter.evaluateRisk("123", new BigDecimal("1100000"), 12);
+
+        verify(delegate, times(2)).evaluateRisk(any(), any(), any());
+    }
+
+    @Test
+    void evaluateRisk_WhenTtlExpires_ShouldCallAgain() {
+        CachingRiskServiceAdapter adapter = adapter(BigDecimal.ZERO);
+
+        adapter.evaluateRisk("123", new BigDecimal("1000000"), 12);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        adapter.evaluateRisk("123", new BigDecimal("1000000"), 12);
+
+        verify(delegate, times(2)).evaluateRisk(any(), any(), any());
+    }
+
+    @Test
+    void evaluateRisk_WhenDelegateFails_ShouldNotCacheFailure() {
+        CachingRiskServiceAdapter adapter = adapter(BigDecimal.ZERO);
+        when(delegate.evaluateRisk(any(), any(), any()))
+                .thenThrow(new RuntimeException("Failed to evaluate risk"))
+                .thenReturn(RiskEvaluation.builder().score(600).riskLevel("MEDIO").build());
+
+        assertThrows(RuntimeException.class, () -> adapter.evaluateRisk("123", new BigDecimal("1000000"), 12));
+        RiskEvaluation retried = adapter.evaluateRisk("123", new BigDecimal("1000000"), 12);
+
+        assertEquals("MEDIO", retried.getRiskLevel());
+    }
+
+    @Test
+    void evaluateRiskAsync_WhenSameInputsInFlight_ShouldShareOneCall() {
+        CompletableFuture<RiskEvaluation> call = new CompletableFuture<>();
+        when(delegate.evaluateRiskAsync(any(), any(), any())).thenReturn(call);
+        CachingRiskServiceAdapter adapter = adapter(BigDecimal.ZERO);
+
+        CompletableFuture<RiskEvaluation> first = adapter.evaluateRiskAsync("123", new BigDecimal("1000000"), 12);
+        CompletableFuture<RiskEvaluation> second = adapter.evaluateRiskAsync("123", new BigDecimal("1000000.00"), 12);
+        assertFalse(first.isDone());
+        call.complete(RiskEvaluation.builder().score(720).riskLevel("BAJO").build());
+
+        assertEquals(720, first.join().getScore());
+        assertNotSame(first.join(), second.join());
+        verify(delegate, times(1)).evaluateRiskAsync(any(), any(), any());
+        verify(delegate, never()).evaluateRisk(any(), any(), any());
+    }
+
+    private CachingRiskServiceAdapter adapter(BigDecimal bucket) {
+        return new CachingRiskServiceAdapter(delegate, 100, Duration.ofMinutes(10), bucket, ticker);
+    }
+}
@@ -0,0 +1,96 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerRiskServiceAdapterTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1000000");
+
+    @Mock
+    private RiskServicePort delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private CircuitBreakerRiskServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build());
+        adapter = new CircuitBreakerRiskServiceAdapter(delegate, circuitBreaker);
+    }
+
+    @Test
+    void evaluateRisk_WhenFailureRateReached_ShouldOpenAndFailFastWithRetryAfter() {
+        when(delegate.evaluateRisk(any(), any(), any()))
+                .thenThrow(new RiskServiceUnavailableException("down", null, null));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(RiskServiceUnavailableException.class, () -> adapter.evaluateRisk("123", AMOUNT, 12));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        RiskServiceUnavailableException rejected = assertThrows(RiskServiceUnavailableException.class,
+                () -> adapter.evaluateRisk("123", AMOUNT, 12));
+
+        assertEquals(Duration.ofSeconds(30), rejected.getRetryAfter());
+        verify(delegate, times(4)).evaluateRisk(any(), any(), any());
+    }
+
+    @Test
+    void evaluateRisk_WhenHalfOpenProbeSucceeds_ShouldClose() {
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        when(delegate.evaluateRisk(any(), any(), any()))
+                .thenReturn(RiskEvaluation.builder().score(720).riskLevel("BAJO").build());
+
+        RiskEvaluation evaluation = adapter.evaluateRisk("123", AMOUNT, 12);
+
+        assertEquals(720, evaluation.getScore());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void evaluateRiskAsync_WhenFailureRateReached_ShouldOpenAndFailFastWithRetryAfter() {
+        when(delegate.evaluateRiskAsync(any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RiskServiceUnavailableException("down", null, null)));
+
+        for (int i = 0; i < 4; i++) {
+            CompletionException failure = assertThrows(CompletionException.class,
+                    () -> adapter.evaluateRiskAsync("123", AMOUNT, 12).join());
+            assertInstanceOf(RiskServiceUnavailableException.class, failure.getCause());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        CompletionException rejected = assertThrows(CompletionException.class,
+                () -> adapter.evaluateRiskAsync("123", AMOUNT, 12).join());
+
+        RiskServiceUnavailableException cause =
+                assertInstanceOf(RiskServiceUnavailableException.class, rejected.getCause());
+        assertEquals(Duration.ofSeconds(30), cause.getRetryAfter());
+        verify(delegate, times(4)).evaluateRiskAsync(any(), any(), any());
+    }
+}
@@ -0,0 +1,156 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.coopcredit.domain.port.out.RiskServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingRiskServiceAdapterTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1000000");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch slowCallRelease = new CountDownLatch(1);
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        slowCallRelease.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void evaluateRisk_WhenPrimaryIsSlow_ShouldReturnHedgeAnswer() {
+        HedgingRiskServiceAdapter adapter = adapter(slowCalls(HedgingRiskServiceAdapter.MIN_SAMPLES + 1), 2);
+        warmUp(adapter);
+
+        long start = System.nanoTime();
+        RiskEvaluation evaluation = adapter.evaluateRisk("123", AMOUNT, 12);
+
+        assertEquals("hedge", evaluation.getDecisionReason());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(1.0, meterRegistry.counter("risk.hedging.hedges", "result", "sent").count());
+        assertEquals(1.0, meterRegistry.counter("risk.hedging.wins", "winner", "hedge").count());
+    }
+
+    @Test
+    void evaluateRisk_WhenBudgetExhausted_ShouldWaitForPrimary() throws Exception {
+        HedgingRiskServiceAdapter adapter = adapter(slowCalls(HedgingRiskServiceAdapter.MIN_SAMPLES + 1), 0);
+        warmUp(adapter);
+
+        executor.submit(() -> {
+            Thread.sleep(300);
+            slowCallRelease.countDown();
+            return null;
+        });
+        RiskEvaluation evaluation = adapter.evaluateRisk("123", AMOUNT, 12);
+
+        assertEquals("slow", evaluation.getDecisionReason());
+        assertEquals(HedgingRiskServiceAdapter.MIN_SAMPLES + 1, invocations.get());
+        assertEquals(1.0, meterRegistry.counter("risk.hedging.hedges", "result", "over_budget").count());
+    }
+
+    @Test
+    void evaluateRisk_WhenTooFewSamples_ShouldNotHedge() {
+        HedgingRiskServiceAdapter adapter = adapter(slowCalls(1), 2);
+
+        executor.submit(() -> {
+            Thread.sleep(300);
+            slowCallRelease.countDown();
+            return null;
+        });
+        RiskEvaluation evaluation = adapter.evaluateRisk("123", AMOUNT, 12);
+
+        assertEquals("slow", evaluation.getDecisionReason());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void evaluateRisk_WhenPrimaryFailsFast_ShouldPropagateWithoutHedge() {
+        RiskServicePort failing = (document, amount, termMonths) -> {
+            invocations.incrementAndGet();
+            throw new RiskServiceUnavailableException("down", null, null);
+        };
+        HedgingRiskServiceAdapter adapter = adapter(failing, 2);
+
+        assertThrows(RiskServiceUnavailableException.class, () -> adapter.evaluateRisk("123", AMOUNT, 12));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void evaluateRiskAsync_WhenPrimaryIsSlow_ShouldReturnHedgeAnswer() throws Exception {
+        CompletableFuture<RiskEvaluation> slow = new CompletableFuture<>();
+        RiskServicePort delegate = new RiskServicePort() {
+            @Override
+            public RiskEvaluation evaluateRisk(String document, BigDecimal amount, Integer termMonths) {
+                throw new UnsupportedOperationException("Blocking call not expected");
+            }
+
+            @Override
+            public CompletableFuture<RiskEvaluation> evaluateRiskAsync(String document, BigDecimal amount,
+                    Integer termMonths) {
+                int call = invocations.incrementAndGet();
+                if (call == HedgingRiskServiceAdapter.MIN_SAMPLES + 1) {
+                    return slow;
+                }
+                String reason = call > HedgingRiskServiceAdapter.MIN_SAMPLES ? "hedge" : "fast";
+                return CompletableFuture.completedFuture(
+                        RiskEvaluation.builder().score(720).riskLevel("BAJO").decisionReason(reason).build());
+            }
+        };
+        HedgingRiskServiceAdapter adapter = adapter(delegate, 2);
+        for (int i = 0; i < HedgingRiskServiceAdapter.MIN_SAMPLES; i++) {
+            adapter.evaluateRiskAsync("123", AMOUNT, 12).join();
+        }
+
+        RiskEvaluation evaluation = adapter.evaluateRiskAsync("123", AMOUNT, 12).get(2, TimeUnit.SECONDS);
+
+        assertEquals("hedge", evaluation.getDecisionReason());
+        assertFalse(slow.isDone());
+        assertEquals(1.0, meterRegistry.counter("risk.hedging.hedges", "result", "sent").count());
+        assertEquals(1.0, meterRegistry.counter("risk.hedging.wins", "winner", "hedge").count());
+    }
+
+    // Answers immediately except for the given call number, which blocks until released
+    private RiskServicePort slowCalls(int slowCall) {
+        return (document, amount, termMonths) -> {
+            int call = invocations.incrementAndGet();
+            if (call == slowCall) {
+                try {
+                    slowCallRelease.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return RiskEvaluation.builder().score(720).riskLevel("BAJO").decisionReason("slow").build();
+            }
+            String reason = call > HedgingRiskServiceAdapter.MIN_SAMPLES ? "hedge" : "fast";
+            return RiskEvaluation.builder().score(720).riskLevel("BAJO").decisionReason(reason).build();
+        };
+    }
+
+    private void warmUp(HedgingRiskServiceAdapter adapter) {
+        for (int i = 0; i < HedgingRiskServiceAdapter.MIN_SAMPLES; i++) {
+            adapter.evaluateRisk("123", AMOUNT, 12);
+        }
+    }
+
+    private HedgingRiskServiceAdapter adapter(RiskServicePort delegate, int maxHedgesInFlight) {
+        return new HedgingRiskServiceAdapter(delegate, executor, 95, Duration.ofMillis(20), maxHedgesInFlight,
+                100, meterRegistry);
+    }
+}
@@ -0,0 +1,129 @@
+package com.coopcredit.infrastructure.adapter.out.external;
+
+import com.coopcredit.domain.exception.RiskServiceUnavailableException;
+import com.coopcredit.domain.model.RiskEvaluation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RiskServiceAdapterTest {
+
+    private static final String URL = "http://risk.test/risk-evaluation";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CloseableHttpAsyncClient asyncClient = HttpAsyncClients.createDefault();
+    private MockRestServiceServer server;
+    private RiskServiceAdapter adapter;
+    private HttpServer riskCentral;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        asyncClient.start();
+        adapter = new RiskServiceAdapter(restTemplate, asyncClient, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(adapter, "riskServiceUrl", URL);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        asyncClient.close();
+        if (riskCentral != null) {
+            riskCentral.stop(0);
+        }
+    }
+
+    @Test
+    void evaluateRisk_ShouldSendTypedRequestAndMapResponse() {
+        server.expect(requestTo(URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json("{\"documento\":\"123\",\"monto\":1000000.50,\"plazo\":12}", JsonCompareMode.STRICT))
+                .andRespond(withSuccess(
+                        "{\"documento\":\"123\",\"score\":720,\"nivelRiesgo\":\"BAJO\",\"detalle\":\"ok\"}",
+                        MediaType.APPLICATION_JSON));
+
+        RiskEvaluation evaluation = adapter.evaluateRisk("123", new BigDecimal("1000000.50"), 12);
+
+        assertEquals(720, evaluation.getScore());
+        assertEquals("BAJO", evaluation.getRiskLevel());
+        assertEquals("ok", evaluation.getDecisionReason());
+        assertNotNull(evaluation.getEvaluationDate());
+        assertEquals(1, meterRegistry.timer("risk.service.requests", "outcome", "success", "risk.level", "BAJO").count());
+        server.verify();
+    }
+
+    @Test
+    void evaluateRisk_WhenScoreMissing_ShouldThrow() {
+        server.expect(requestTo(URL))
+                .andRespond(withSuccess("{\"documento\":\"123\"}", MediaType.APPLICATION_JSON));
+
+        assertThrows(RuntimeException.class,
+                () -> adapter.evaluateRisk("123", new BigDecimal("1000000"), 12));
+        assertEquals(1, meterRegistry.timer("risk.service.requests", "outcome", "empty", "risk.level", "none").count());
+    }
+
+    @Test
+    void evaluateRiskAsync_ShouldSendTypedRequestAndMapResponse() throws Exception {
+        AtomicReference<String> received = new AtomicReference<>();
+        startRiskCentral(200, "{\"documento\":\"123\",\"score\":400,\"nivelRiesgo\":\"ALTO\",\"detalle\":\"mora\"}",
+                received);
+
+        RiskEvaluation evaluation = adapter.evaluateRiskAsync("123", new BigDecimal("1000000.50"), 12)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(400, evaluation.getScore());
+        assertEquals("ALTO", evaluation.getRiskLevel());
+        assertEquals("mora", evaluation.getDecisionReason());
+        assertEquals("{\"documento\":\"123\",\"monto\":1000000.50,\"plazo\":12}", received.get());
+        assertEquals(1, meterRegistry.timer("risk.service.requests", "outcome", "success", "risk.level", "ALTO").count());
+    }
+
+    @Test
+    void evaluateRiskAsync_WhenRiskCentralFails_ShouldFailWithUnavailable() throws Exception {
+        startRiskCentral(500, "{}", new AtomicReference<>());
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> adapter.evaluateRiskAsync("123", new BigDecimal("1000000"), 12).get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(RiskServiceUnavailableException.class, failure.getCause());
+        assertEquals(1, meterRegistry.timer("risk.service.requests", "outcome", "error", "risk.level", "none").count());
+    }
+
+    private void startRiskCentral(int status, String body, AtomicReference<String> received) throws Exception {
+        riskCentral = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        riskCentral.createContext("/risk-evaluation", exchange -> {
+            received.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] answer = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, answer.length);
+            exchange.getResponseBody().write(answer);
+            exchange.close();
+        });
+        riskCentral.start();
+        ReflectionTestUtils.setField(adapter, "riskServiceUrl",
+                "http://localhost:" + riskCentral.getAddress().getPort() + "/risk-evaluation");
+    }
+}
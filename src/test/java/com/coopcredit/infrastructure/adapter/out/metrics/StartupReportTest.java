@@ -0,0 +1,64 @@
+package com.coopcredit.infrastructure.adapter.out.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupReportTest {
+
+    private final BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+
+    @Test
+    void phases_ShouldFollowTheStartupSteps() throws Exception {
+        Instant jvmStart = startup.getBufferedTimeline().getStartTime().minusMillis(500);
+        step("spring.boot.application.environment-prepared", 10);
+        step("spring.boot.application.context-prepared", 0);
+        step("spring.boot.application.context-loaded", 0);
+        step("spring.context.refresh", 30);
+
+        Map<String, Duration> phases = StartupReport.phases(startup.getBufferedTimeline(), jvmStart,
+                Duration.ofSeconds(1));
+
+        assertEquals(List.of("jvm", "environment", "context", "refresh", "other"), List.copyOf(phases.keySet()));
+        assertEquals(Duration.ofMillis(500), phases.get("jvm"));
+        assertTrue(phases.get("environment").toMillis() >= 10);
+        assertTrue(phases.get("refresh").toMillis() >= 30);
+        Duration measured = phases.get("environment").plus(phases.get("context")).plus(phases.get("refresh"));
+        assertEquals(Duration.ofSeconds(1), measured.plus(phases.get("other")));
+    }
+
+    @Test
+    void slowestBeans_ShouldChargeDependenciesToTheBeanThatNeededThem() throws Exception {
+        StartupStep refresh = startup.start("spring.context.refresh");
+        StartupStep service = bean("creditApplicationService");
+        StartupStep repository = bean("creditApplicationRepository");
+        Thread.sleep(30);
+        repository.end();
+        service.end();
+        StartupStep filter = bean("jwtAuthenticationFilter");
+        Thread.sleep(10);
+        filter.end();
+        refresh.end();
+
+        Map<String, Duration> slowest = StartupReport.slowestBeans(startup.getBufferedTimeline(), 5);
+
+        assertEquals(List.of("creditApplicationService", "jwtAuthenticationFilter"), List.copyOf(slowest.keySet()));
+    }
+
+    private void step(String name, long millis) throws InterruptedException {
+        StartupStep step = startup.start(name);
+        Thread.sleep(millis);
+        step.end();
+    }
+
+    private StartupStep bean(String name) {
+        return startup.start("spring.beans.instantiate").tag("beanName", name);
+    }
+}
@@ -0,0 +1,88 @@
+package com.coopcredit.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry,
+            Duration.ofMillis(1), VirtualThreadPinningMonitorTest.class.getPackageName());
+    private final Object lock = new Object();
+
+    @AfterEach
+    void stopMonitor() {
+        monitor.stop();
+    }
+
+    @Test
+    void sleepInsideSynchronized_ShouldBeRecordedWithTheBlockingFrame() throws Exception {
+        monitor.start();
+
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        Timer pinned = awaitTimer();
+        assertEquals(1, pinned.count());
+        // JFR times the park itself, a hair under the requested sleep
+        assertTrue(pinned.totalTime(TimeUnit.MILLISECONDS) >= 40);
+        assertEquals(VirtualThreadPinningMonitorTest.class.getName() + ".sleep",
+                pinned.getId().getTag("frame"));
+        assertEquals(pinned.getId().getTag("frame"), pinned.getId().getTag("origin"));
+    }
+
+    @Test
+    void sleepOutsideSynchronized_ShouldNotBeRecorded() throws Exception {
+        monitor.start();
+
+        Thread.ofVirtual().start(() -> sleep(50)).join();
+        // A pinned sleep afterwards proves the stream had caught up with the unpinned one
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        assertEquals(1, awaitTimer().count());
+        assertEquals(1, meterRegistry.find("jvm.threads.virtual.pinned").timers().size());
+    }
+
+    @Test
+    void stop_ShouldEndTheRecording() {
+        monitor.start();
+        assertTrue(monitor.isRunning());
+
+        monitor.stop();
+
+        assertFalse(monitor.isRunning());
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timer awaitTimer() throws InterruptedException {
+        // JFR hands events to the stream about once a second; wait until one is fully recorded
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Timer timer = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+            if (timer != null && timer.totalTime(TimeUnit.NANOSECONDS) > 0) {
+                return timer;
+            }
+            Thread.sleep(100);
+        }
+        return fail("No pinned virtual thread recorded");
+    }
+}
@@ -0,0 +1,60 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.infrastructure.adapter.out.persistence.repository.SpringDataAffiliateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AffiliateRepositoryAdapterTest {
+
+    @Mock
+    private SpringDataAffiliateRepository repository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AffiliateRepositoryAdapter adapter;
+
+    @Test
+    void save_WhenDocumentAlreadyExists_ShouldReportItAsTheExistenceCheckDoes() {
+        // Another node created it while this one still had a cached "not found"
+        when(repository.save(any())).thenThrow(new DataIntegrityViolationException("insert failed",
+                new SQLException("duplicate key value violates unique constraint", "23505")));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> adapter.save(affiliate()));
+        assertEquals("Affiliate with this document already exists", e.getMessage());
+    }
+
+    @Test
+    void save_WhenOtherConstraintFails_ShouldPropagate() {
+        when(repository.save(any())).thenThrow(new DataIntegrityViolationException("insert failed",
+                new SQLException("null value in column", "23502")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> adapter.save(affiliate()));
+    }
+
+    private Affiliate affiliate() {
+        return Affiliate.builder()
+                .document("12345")
+                .name("Ana Gomez")
+                .salary(new BigDecimal("2500000"))
+                .affiliationDate(LocalDate.now().minusYears(1))
+                .status(Affiliate.AffiliateStatus.ACTIVE)
+                .build();
+    }
+}
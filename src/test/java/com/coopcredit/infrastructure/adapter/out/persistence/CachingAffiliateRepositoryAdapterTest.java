@@ -0,0 +1,91 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.Affiliate;
+import com.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAffiliateRepositoryAdapterTest {
+
+    @Mock
+    private AffiliateRepositoryPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void findByDocument_WhenRepeated_ShouldQueryOnceAndReturnCopies() {
+        when(delegate.findByDocument("123")).thenReturn(Optional.of(affiliate("Ana")));
+        CachingAffiliateRepositoryAdapter adapter = adapter();
+
+        Affiliate first = adapter.findByDocument("123").orElseThrow();
+        first.setName("Mutated by caller");
+        Affiliate second = adapter.findByDocument("123").orElseThrow();
+
+        assertEquals("Ana", second.getName());
+        verify(delegate, times(1)).findByDocument("123");
+        assertEquals(1, adapter.getCache().stats().hitCount());
+    }
+
+    @Test
+    void findByDocument_WhenNotFound_ShouldCacheMissForNegativeTtl() {
+        when(delegate.findByDocument("999")).thenReturn(Optional.empty());
+        CachingAffiliateRepositoryAdapter adapter = adapter();
+
+        assertTrue(adapter.findByDocument("999").isEmpty());
+        assertTrue(adapter.findByDocument("999").isEmpty());
+        verify(delegate, times(1)).findByDocument("999");
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        adapter.findByDocument("999");
+        verify(delegate, times(2)).findByDocument("999");
+    }
+
+    @Test
+    void save_ShouldEvictEntryIncludingCachedMiss() {
+        when(delegate.findByDocument("123")).thenReturn(Optional.empty(), Optional.of(affiliate("Ana")));
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        CachingAffiliateRepositoryAdapter adapter = adapter();
+
+        assertTrue(adapter.findByDocument("123").isEmpty());
+        adapter.save(affiliate("Ana"));
+
+        assertEquals("Ana", adapter.findByDocument("123").orElseThrow().getName());
+        verify(delegate, times(2)).findByDocument("123");
+    }
+
+    @Test
+    void findByDocument_WhenTtlElapsed_ShouldReload() {
+        when(delegate.findByDocument("123")).thenReturn(Optional.of(affiliate("Ana")));
+        CachingAffiliateRepositoryAdapter adapter = adapter();
+
+        adapter.findByDocument("123");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        adapter.findByDocument("123");
+
+        verify(delegate, times(2)).findByDocument("123");
+    }
+
+    private CachingAffiliateRepositoryAdapter adapter() {
+        return new CachingAffiliateRepositoryAdapter(delegate, 100, Duration.ofMinutes(10), Duration.ofMinutes(1),
+                ticker);
+    }
+
+    private Affiliate affiliate(String name) {
+        return Affiliate.builder().id(1L).document("123").name(name)
+                .status(Affiliate.AffiliateStatus.ACTIVE).build();
+    }
+}
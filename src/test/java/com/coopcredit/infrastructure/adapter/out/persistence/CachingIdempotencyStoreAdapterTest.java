@@ -0,0 +1,124 @@
+package com.coopcredit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.domain.model.IdempotencyRecord;
+import com.coopcredit.domain.model.IdempotentResponse;
+import com.coopcredit.domain.port.out.IdempotencyStorePort;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingIdempotencyStoreAdapterTest {
+
+    private static final Duration LOCK = Duration.ofMinutes(1);
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Mock
+    private IdempotencyStorePort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void begin_AfterComplete_ShouldReplayFromMemoryUntilCacheTtl() {
+        when(delegate.begin("ana", "k1", "h1", LOCK)).thenReturn(acquired("h1"));
+        CachingIdempotencyStoreAdapter adapter = adapter();
+
+        assertTrue(adapter.begin("ana", "k1", "h1", LOCK).isAcquired());
+        adapter.complete("ana", "k1", response(201), TTL);
+        IdempotencyRecord replay = adapter.begin("ana", "k1", "h1", LOCK);
+
+        assertFalse(replay.isAcquired());
+        assertEquals("h1", replay.getRequestHash());
+        assertEquals(201, replay.getResponse().getStatus());
+        verify(delegate, times(1)).begin(any(), any(), any(), any());
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        when(delegate.begin("ana", "k1", "h1", LOCK)).thenReturn(completed("h1", 201));
+        adapter.begin("ana", "k1", "h1", LOCK);
+        verify(delegate, times(2)).begin(any(), any(), any(), any());
+    }
+
+    @Test
+    void awaitCompletion_WhenKeyHeldLocally_ShouldWakeOnCompleteWithoutPolling() throws Exception {
+        when(delegate.begin("ana", "k1", "h1", LOCK)).thenReturn(acquired("h1"));
+        CachingIdempotencyStoreAdapter adapter = adapter();
+        adapter.begin("ana", "k1", "h1", LOCK);
+
+        CompletableFuture<IdempotencyRecord> waiter = CompletableFuture.supplyAsync(
+                () -> adapter.awaitCompletion("ana", "k1", Duration.ofSeconds(10)));
+        adapter.complete("ana", "k1", response(200), TTL);
+
+        assertEquals(200, waiter.get(5, TimeUnit.SECONDS).getResponse().getStatus());
+        verify(delegate, never()).awaitCompletion(any(), any(), any());
+    }
+
+    @Test
+    void awaitCompletion_WhenLocalHolderReleases_ShouldReturnNull() throws Exception {
+        when(delegate.begin("ana", "k1", "h1", LOCK)).thenReturn(acquired("h1"));
+        CachingIdempotencyStoreAdapter adapter = adapter();
+        adapter.begin("ana", "k1", "h1", LOCK);
+
+        CompletableFuture<IdempotencyRecord> waiter = CompletableFuture.supplyAsync(
+                () -> adapter.awaitCompletion("ana", "k1", Duration.ofSeconds(10)));
+        adapter.release("ana", "k1");
+
+        assertNull(waiter.get(5, TimeUnit.SECONDS));
+        verify(delegate).release("ana", "k1");
+    }
+
+    @Test
+    void awaitCompletion_WhenLocalWaitTimesOut_ShouldReturnInProgressRecord() {
+        when(delegate.begin("ana", "k1", "h1", LOCK)).thenReturn(acquired("h1"));
+        CachingIdempotencyStoreAdapter adapter = adapter();
+        adapter.begin("ana", "k1", "h1", LOCK);
+
+        IdempotencyRecord record = adapter.awaitCompletion("ana", "k1", Duration.ofMillis(10));
+
+        assertFalse(record.isCompleted());
+        assertEquals("h1", record.getRequestHash());
+    }
+
+    @Test
+    void awaitCompletion_WhenKeyHeldElsewhere_ShouldDelegateAndCacheResult() {
+        when(delegate.begin("ana", "k1", "h1", LOCK)).thenReturn(IdempotencyRecord.builder().requestHash("h1").build());
+        when(delegate.awaitCompletion("ana", "k1", Duration.ofSeconds(1))).thenReturn(completed("h1", 200));
+        CachingIdempotencyStoreAdapter adapter = adapter();
+
+        assertFalse(adapter.begin("ana", "k1", "h1", LOCK).isCompleted());
+        assertTrue(adapter.awaitCompletion("ana", "k1", Duration.ofSeconds(1)).isCompleted());
+        assertTrue(adapter.begin("ana", "k1", "h1", LOCK).isCompleted());
+        verify(delegate, times(1)).begin(any(), any(), any(), any());
+    }
+
+    private CachingIdempotencyStoreAdapter adapter() {
+        return new CachingIdempotencyStoreAdapter(delegate, 100, Duration.ofMinutes(10), ticker);
+    }
+
+    private static IdempotencyRecord acquired(String hash) {
+        return IdempotencyRecord.builder().requestHash(hash).acquired(true).build();
+    }
+
+    private static IdempotencyRecord completed(String hash, int status) {
+        return IdempotencyRecord.builder().requestHash(hash).response(response(status)).build();
+    }
+
+    private static IdempotentResponse response(int status) {
+        return IdempotentResponse.builder()
+                .status(status)
+                .contentType("application/json")
+                .body("{\"id\":1}".getBytes())
+                .build();
+    }
+}
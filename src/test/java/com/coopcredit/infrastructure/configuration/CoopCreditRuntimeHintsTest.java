@@ -0,0 +1,53 @@
+package com.coopcredit.infrastructure.configuration;
+
+import com.coopcredit.domain.model.CreditApplication;
+import com.coopcredit.infrastructure.adapter.in.web.dto.CreateCreditApplicationRequest;
+import com.coopcredit.infrastructure.adapter.out.external.dto.RiskEvaluationResponse;
+import com.coopcredit.infrastructure.adapter.out.persistence.entity.CreditApplicationEntity;
+import com.coopcredit.infrastructure.adapter.out.persistence.projection.UserSummaryRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoopCreditRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    CoopCreditRuntimeHintsTest() {
+        new CoopCreditRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void lombokModelAndDtos_ShouldBeBindable() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(CreditApplication.class.getMethod("getRequestedAmount")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(CreateCreditApplicationRequest.class.getMethod("getTerm")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RiskEvaluationResponse.class).test(hints));
+        // Reached through the model's fields
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CreditApplication.CreditStatus.class).test(hints));
+    }
+
+    @Test
+    void entitiesAndProjections_ShouldBeInstantiable() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CreditApplicationEntity.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserSummaryRow.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void jjwtImplementation_ShouldBeInstantiableByName() {
+        for (String type : CoopCreditRuntimeHints.JJWT_TYPES) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints), type);
+        }
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+}
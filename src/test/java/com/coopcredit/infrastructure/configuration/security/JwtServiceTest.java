@@ -0,0 +1,62 @@
+package com.coopcredit.infrastructure.configuration.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "7d4c6e5a6f2b7a8d9e1c3f5a8b2d4e7f1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000, 100, Duration.ofMinutes(5));
+
+    @Test
+    void authenticate_ShouldRebuildPrincipalFromClaims() {
+        String token = jwtService.generateToken("jane", "ROLE_AFILIADO", "12345678");
+
+        AuthenticatedUser user = jwtService.authenticate(token);
+
+        assertEquals(new AuthenticatedUser("jane", "ROLE_AFILIADO", "12345678"), user);
+        assertSame(user, jwtService.authenticate(token));
+    }
+
+    @Test
+    void authenticate_WhenTokenHasNoRoleClaim_ShouldReturnNull() {
+        // As issued before tokens carried the role: subject and dates only
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder()
+                .setSubject("legacy")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertNull(jwtService.authenticate(token));
+        assertEquals("legacy", jwtService.extractUsername(token));
+    }
+
+    @Test
+    void authenticate_WhenTokenIsTampered_ShouldThrow() {
+        String token = jwtService.generateToken("jane", "ROLE_AFILIADO", null);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.authenticate(tampered));
+    }
+
+    @Test
+    void authenticate_WhenTokenIsExpired_ShouldThrow() {
+        JwtService expiring = new JwtService(SECRET, -1_000, 100, Duration.ofMinutes(5));
+        String token = expiring.generateToken("jane", "ROLE_AFILIADO", null);
+
+        assertThrows(ExpiredJwtException.class, () -> expiring.authenticate(token));
+    }
+}
@@ -0,0 +1,52 @@
+package com.coopcredit.infrastructure.configuration.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RehashingBCryptPasswordEncoderTest {
+
+    private final RehashingBCryptPasswordEncoder encoder = new RehashingBCryptPasswordEncoder(5);
+
+    @Test
+    void upgradeEncoding_ShouldAskForRehashWhenCostDiffers() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret123")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret123")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret123")));
+    }
+
+    @Test
+    void upgradeEncoding_WhenHashIsNotBCrypt_ShouldNotAskForRehash() {
+        assertFalse(encoder.upgradeEncoding("n/a"));
+        assertFalse(encoder.upgradeEncoding(""));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    void login_WhenStoredCostDiffers_ShouldStoreHashAtCurrentCost() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret123");
+        AtomicReference<String> stored = new AtomicReference<>();
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> new AccountUserDetails(username, oldHash, "ROLE_AFILIADO", "123"));
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService((user, newPassword) -> {
+            stored.set(newPassword);
+            return ((AccountUserDetails) user).withPassword(newPassword);
+        });
+
+        Authentication authentication = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("jane", "secret123"));
+
+        assertTrue(stored.get().startsWith("$2a$05$"));
+        assertTrue(encoder.matches("secret123", stored.get()));
+        AccountUserDetails principal = (AccountUserDetails) authentication.getPrincipal();
+        assertEquals("ROLE_AFILIADO", principal.getRole());
+        assertEquals("123", principal.getAffiliateDocument());
+    }
+}